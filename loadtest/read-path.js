@@ -0,0 +1,42 @@
+// Read-path load test: seeds devices, then hammers the list and single-device endpoints.
+// Compare runs via Prometheus while it executes:
+//   hikaricp_connections_usage_seconds  (how long each request holds a pooled connection)
+//   jvm_gc_memory_allocated_bytes_total (heap churn)
+//   http_server_requests_seconds        (latency)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = `${__ENV.BASE_URL || 'http://localhost:8080'}/devices-api/v1/devices`;
+const SEED = Number(__ENV.SEED || 1000);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 50),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+};
+
+export function setup() {
+    const devices = [];
+    for (let i = 0; i < SEED; i++) {
+        devices.push({ name: `Load ${i}`, brand: `Brand ${i % 20}`, state: 'AVAILABLE' });
+    }
+    const response = http.post(`${BASE_URL}/bulk`, JSON.stringify(devices),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'seeded': (r) => r.status === 201 });
+    return { ids: response.json('results').filter((result) => result.device).map((result) => result.device.id) };
+}
+
+export default function (data) {
+    const list = http.get(`${BASE_URL}?limit=100`);
+    check(list, { 'list 200': (r) => r.status === 200 });
+
+    const byBrand = http.get(`${BASE_URL}?brand=Brand%20${Math.floor(Math.random() * 20)}`);
+    check(byBrand, { 'brand 200': (r) => r.status === 200 });
+
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    check(http.get(`${BASE_URL}/${id}`), { 'get 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,93 @@
+package com.global.devices.devicesapi.benchmark;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.mapper.DeviceRestMapper;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper.DeviceEntityMapper;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.application.usecase.mapper.DeviceUseCaseMapper;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+DeviceEntity -> Device -> DeviceUseCaseResponse -> DeviceResponse for a list of devices.
+"builderChain" reproduces the previous hand-written mapping (a Lombok builder per object
+per layer, Collectors.toList with no presizing); "generatedMappers" is the MapStruct path.
+Run with -prof gc and divide gc.alloc.rate.norm by size for the allocation per device.
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private List<DeviceEntity> entities;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        DeviceState[] states = DeviceState.values();
+        entities = IntStream.range(0, size)
+                .mapToObj(i -> new DeviceEntity(UUID.randomUUID(), "Device " + i, "Brand " + (i % 10),
+                        states[i % states.length], now.minusSeconds(i), (long) i))
+                .toList();
+    }
+
+    @Benchmark
+    public List<DeviceResponse> builderChain() {
+        List<Device> devices = entities.stream()
+                .map(entity -> new Device(entity.getId(), entity.getName(), entity.getBrand(),
+                        entity.getState(), entity.getCreationTime(), entity.getVersion()))
+                .collect(Collectors.toList());
+        List<DeviceUseCaseResponse> useCaseResponses = devices.stream()
+                .map(device -> DeviceUseCaseResponse.builder()
+                        .id(device.getId())
+                        .name(device.getName())
+                        .brand(device.getBrand())
+                        .state(device.getState())
+                        .creationTime(device.getCreationTime())
+                        .version(device.getVersion())
+                        .build())
+                .collect(Collectors.toList());
+        return useCaseResponses.stream()
+                .map(device -> DeviceResponse.builder()
+                        .id(device.getId())
+                        .name(device.getName())
+                        .brand(device.getBrand())
+                        .state(device.getState())
+                        .creationTime(device.getCreationTime())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<DeviceResponse> generatedMappers() {
+        List<Device> devices = DeviceEntityMapper.INSTANCE.toDomainList(entities);
+        List<DeviceUseCaseResponse> useCaseResponses = DeviceUseCaseMapper.INSTANCE.toUseCaseResponseList(devices);
+        return DeviceRestMapper.INSTANCE.toResponseList(useCaseResponses);
+    }
+}
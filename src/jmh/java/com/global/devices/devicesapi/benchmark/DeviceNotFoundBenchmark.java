@@ -0,0 +1,96 @@
+package com.global.devices.devicesapi.benchmark;
+
+import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
+import com.global.devices.devicesapi.domain.exception.ErrorResponse;
+import com.global.devices.devicesapi.domain.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+The 404 path, from the service throwing to the handler building the error body.
+"legacy" reproduces the previous shape: a stack-capturing exception with an eagerly
+concatenated message, and the path taken from WebRequest.getDescription with a replace.
+The throw happens "depth" frames down to stand in for the filter/dispatcher stack.
+Run with -prof gc to compare allocation per operation as well.
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceNotFoundBenchmark {
+
+    @Param({"20", "120"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final UUID deviceId = UUID.randomUUID();
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/devices-api/v1/devices/" + deviceId);
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> legacy() {
+        try {
+            throwLegacy(depth);
+            throw new IllegalStateException("unreachable");
+        } catch (LegacyDeviceNotFoundException ex) {
+            var error = ErrorResponse.of(HttpStatus.NOT_FOUND.value(), "Not Found", ex.getMessage(),
+                    webRequest.getDescription(false).replace("uri=", ""));
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> current() {
+        try {
+            throwCurrent(depth);
+            throw new IllegalStateException("unreachable");
+        } catch (DeviceNotFoundException ex) {
+            return handler.handleDeviceNotFound(ex, request);
+        }
+    }
+
+    private void throwLegacy(int remaining) {
+        if (remaining == 0) {
+            throw new LegacyDeviceNotFoundException("Device with id " + deviceId + " not found");
+        }
+        throwLegacy(remaining - 1);
+    }
+
+    private void throwCurrent(int remaining) {
+        if (remaining == 0) {
+            throw DeviceNotFoundException.forId(deviceId);
+        }
+        throwCurrent(remaining - 1);
+    }
+
+    private static final class LegacyDeviceNotFoundException extends RuntimeException {
+        LegacyDeviceNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
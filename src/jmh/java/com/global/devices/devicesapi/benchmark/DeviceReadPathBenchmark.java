@@ -0,0 +1,109 @@
+package com.global.devices.devicesapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.JpaDeviceQueryRepository;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.application.service.GetDeviceService;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+Every stage a list read goes through after the query returns:
+DeviceEntity -> Device -> DeviceUseCaseResponse -> DeviceResponse -> JSON.
+Each stage is measured on its own input, then the whole chain, for 1, 100 and 1000 rows.
+The ObjectMapper is built the way Spring Boot configures the one behind the controllers.
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceReadPathBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    // toDomainList does not touch the JPA repository
+    private final JpaDeviceQueryRepository jpaQueries = new JpaDeviceQueryRepository(null);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<DeviceEntity> entities;
+    private List<Device> devices;
+    private List<DeviceUseCaseResponse> useCaseResponses;
+    private List<DeviceResponse> responses;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        DeviceState[] states = DeviceState.values();
+        entities = IntStream.range(0, size)
+                .mapToObj(i -> DeviceEntity.builder()
+                        .id(UUID.randomUUID())
+                        .name("Device " + i)
+                        .brand("Brand " + (i % 10))
+                        .state(states[i % states.length])
+                        .creationTime(now.minusSeconds(i))
+                        .version((long) i)
+                        .build())
+                .toList();
+        devices = jpaQueries.toDomainList(entities);
+        useCaseResponses = GetDeviceService.toUseCaseResponseList(devices);
+        responses = DeviceResponse.fromList(useCaseResponses);
+    }
+
+    @Benchmark
+    public List<Device> entityToDomain() {
+        return jpaQueries.toDomainList(entities);
+    }
+
+    @Benchmark
+    public List<DeviceUseCaseResponse> domainToUseCaseResponse() {
+        return GetDeviceService.toUseCaseResponseList(devices);
+    }
+
+    @Benchmark
+    public List<DeviceResponse> useCaseToRestResponse() {
+        return DeviceResponse.fromList(useCaseResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<DeviceResponse> mapAllStages() {
+        return DeviceResponse.fromList(GetDeviceService.toUseCaseResponseList(jpaQueries.toDomainList(entities)));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapAllStages());
+    }
+}
@@ -0,0 +1,48 @@
+package com.global.devices.devicesapi.benchmark;
+
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.validation.DeviceValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// validateStatus for a device that passes and for one that is rejected as IN_USE
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceValidatorBenchmark {
+
+    private final DeviceValidator validator = new DeviceValidator();
+    private final Device available = new Device("Laptop", "Dell", DeviceState.AVAILABLE);
+    private final Device inUse = new Device("Phone", "Apple", DeviceState.IN_USE);
+
+    // Returns the validated device so JMH consumes it and the check cannot be dropped as dead code
+    @Benchmark
+    public Device accepted() {
+        validator.validateStatus(available);
+        return available;
+    }
+
+    @Benchmark
+    public InvalidOperationException rejected() {
+        try {
+            validator.validateStatus(inUse);
+            return null;
+        } catch (InvalidOperationException ex) {
+            return ex;
+        }
+    }
+}
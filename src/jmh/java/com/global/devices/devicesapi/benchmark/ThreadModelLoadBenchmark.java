@@ -0,0 +1,202 @@
+package com.global.devices.devicesapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.DevicesApiApplication;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.ToxiproxyContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+The whole application on Testcontainers Postgres, once with Tomcat's platform-thread pool and
+once on virtual threads (spring.threads.virtual.enabled, which also turns on devices.jdbc
+limiting). Toxiproxy sits between the application and Postgres and adds dbLatencyMs to every
+response from the database, standing in for a latency spike.
+
+"concurrency" background clients keep requesting list pages, which always reach the database.
+The measured operation is a cached single-device GET that needs no database at all: on
+platform threads it stalls once every request thread is parked on JDBC, on virtual threads
+it should not. Completed and failed background pages are printed after each iteration.
+The forked JVM runs with -Djdk.tracePinnedThreads=short, so any pinning shows up in the log.
+
+Needs Docker; a full run takes about 15 minutes (see README for a shorter subset).
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class ThreadModelLoadBenchmark {
+
+    private static final int DEVICES = 1_000;
+    private static final int HOT_DEVICES = 100;
+    private static final int POSTGRES_PORT = 5432;
+    private static final int PROXY_PORT = 8666;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"50", "200", "800"})
+    private int concurrency;
+
+    @Param({"0", "50"})
+    private int dbLatencyMs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong backgroundPages = new AtomicLong();
+    private final AtomicLong backgroundFailures = new AtomicLong();
+
+    private Network network;
+    private PostgreSQLContainer<?> postgres;
+    private ToxiproxyContainer toxiproxy;
+    private ConfigurableApplicationContext application;
+    private HttpClient client;
+    private ExecutorService background;
+    private volatile boolean loading;
+    private List<URI> hotDevices;
+    private URI listPage;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        network = Network.newNetwork();
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine").withNetwork(network).withNetworkAliases("postgres");
+        toxiproxy = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0").withNetwork(network);
+        postgres.start();
+        toxiproxy.start();
+        Proxy proxy = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort())
+                .createProxy("postgres", "0.0.0.0:" + PROXY_PORT, "postgres:" + POSTGRES_PORT);
+
+        // Command-line arguments so they win over application.yaml
+        application = new SpringApplicationBuilder(DevicesApiApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:postgresql://" + toxiproxy.getHost() + ":"
+                        + toxiproxy.getMappedPort(PROXY_PORT) + "/" + postgres.getDatabaseName(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                "--spring.jpa.show-sql=false",
+                "--devices.cache.invalidation.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springdoc=WARN");
+        String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port")
+                + "/devices-api/v1/devices";
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        hotDevices = seed(baseUrl);
+        listPage = URI.create(baseUrl + "?limit=20");
+        // Fill the cache before the database gets slow
+        for (URI device : hotDevices) {
+            get(device);
+        }
+        if (dbLatencyMs > 0) {
+            proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, dbLatencyMs);
+        }
+
+        loading = true;
+        background = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < concurrency; i++) {
+            background.execute(this::loadListPages);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n  background list pages: %d ok, %d failed%n",
+                backgroundPages.getAndSet(0), backgroundFailures.getAndSet(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        loading = false;
+        background.shutdownNow();
+        application.close();
+        toxiproxy.stop();
+        postgres.stop();
+        network.close();
+    }
+
+    @Benchmark
+    public int cachedRead() throws IOException, InterruptedException {
+        return get(hotDevices.get(ThreadLocalRandom.current().nextInt(hotDevices.size())));
+    }
+
+    private void loadListPages() {
+        while (loading) {
+            try {
+                if (get(listPage) == 200) {
+                    backgroundPages.incrementAndGet();
+                } else {
+                    backgroundFailures.incrementAndGet();
+                }
+            } catch (IOException ex) {
+                backgroundFailures.incrementAndGet();
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    private List<URI> seed(String baseUrl) throws IOException, InterruptedException {
+        List<Object> devices = new ArrayList<>(DEVICES);
+        for (int i = 0; i < DEVICES; i++) {
+            devices.add(Map.of("name", "Device " + i, "brand", "Brand " + (i % 20), "state", "AVAILABLE"));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/bulk"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(devices)))
+                .build();
+        JsonNode results = objectMapper.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body())
+                .path("results");
+        List<URI> hot = new ArrayList<>(HOT_DEVICES);
+        for (int i = 0; i < HOT_DEVICES; i++) {
+            hot.add(URI.create(baseUrl + "/" + results.get(i).path("device").path("id").asText()));
+        }
+        return hot;
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,99 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.config.DeviceConcurrencyLimitProperties;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Gradient concurrency limit: each finished request reports its latency, a fast and a slow moving
+average are kept, and their ratio steers the limit. While recent latency stays within
+tolerance x the long-term latency the limit grows by about sqrt(limit) per update; once the
+database slows down the ratio drops below 1 and the limit shrinks with it (at most halving
+per update), so excess requests are turned away instead of queuing behind the slow ones.
+The long-term average follows a lasting shift in latency, so the limit recovers on its own.
+Updates are skipped while fewer than half the permits are in use: an idle limit says nothing
+about capacity and would otherwise drift up to maxLimit.
+*/
+
+final class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    // Guarded by this
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    AdaptiveConcurrencyLimit(DeviceConcurrencyLimitProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    // Empty when the limit is reached; the caller must not queue
+    Optional<Permit> tryAcquire(long nowNanos) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nowNanos, current + 1));
+            }
+        }
+    }
+
+    void release(Permit permit, long nowNanos) {
+        inFlight.decrementAndGet();
+        onSample(nowNanos - permit.startNanos(), permit.inFlight());
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (shortRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += (rttNanos - shortRtt) * SHORT_RTT_WEIGHT;
+            longRtt += (rttNanos - longRtt) * LONG_RTT_WEIGHT;
+        }
+        // After a spike the long-term average would take hundreds of samples to come back down
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = estimatedLimit * (1 - smoothing) + target * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    record Permit(long startNanos, int inFlight) {
+    }
+}
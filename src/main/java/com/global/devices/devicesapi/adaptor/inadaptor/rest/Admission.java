@@ -0,0 +1,81 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.domain.exception.ErrorResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+Shared by the admission filters: the 503 they answer with, and releasing a slot only once the
+response is complete, which for the asynchronous NDJSON export is after the filter has returned.
+*/
+
+final class Admission {
+
+    private Admission() {
+    }
+
+    static void reject(ObjectMapper objectMapper, HttpServletRequest request, HttpServletResponse response,
+                       Duration retryAfter, String message) throws IOException {
+        var error = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    // Call after the chain returned; runs release exactly once
+    static void releaseWhenComplete(HttpServletRequest request, Runnable release) {
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new ReleaseOnComplete(once(release)));
+        } else {
+            release.run();
+        }
+    }
+
+    private static Runnable once(Runnable release) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        };
+    }
+
+    private record ReleaseOnComplete(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
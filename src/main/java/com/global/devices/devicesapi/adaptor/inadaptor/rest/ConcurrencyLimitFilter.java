@@ -0,0 +1,88 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.config.DeviceConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/*
+Admission control for the device endpoints. Each RequestLane has its own
+AdaptiveConcurrencyLimit; a request over its lane's limit is answered right away with 503 and
+Retry-After rather than waiting for a Tomcat thread or a connection, so a slow database shows
+up as fast rejections instead of a growing queue that ends in failed health checks.
+The permit is held until the response is complete, including asynchronous NDJSON exports.
+*/
+
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<RequestLane, AdaptiveConcurrencyLimit> limits = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Counter> rejections = new EnumMap<>(RequestLane.class);
+    private final ObjectMapper objectMapper;
+    private final Duration retryAfter;
+    private final LongSupplier nanoTime;
+
+    public ConcurrencyLimitFilter(DeviceConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper) {
+        this(properties, meterRegistry, objectMapper, System::nanoTime);
+    }
+
+    ConcurrencyLimitFilter(DeviceConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper, LongSupplier nanoTime) {
+        this.objectMapper = objectMapper;
+        this.nanoTime = nanoTime;
+        this.retryAfter = properties.getRetryAfter();
+        for (RequestLane lane : RequestLane.values()) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+            limits.put(lane, limit);
+            Gauge.builder("devices.http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive limit on concurrent requests")
+                    .tag("group", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("devices.http.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Requests currently holding a permit")
+                    .tag("group", lane.tag())
+                    .register(meterRegistry);
+            rejections.put(lane, Counter.builder("devices.http.concurrency.rejected")
+                    .description("Requests answered with 503 because the limit was reached")
+                    .tag("group", lane.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestLane lane = RequestLane.of(request);
+        AdaptiveConcurrencyLimit limit = limits.get(lane);
+        Optional<AdaptiveConcurrencyLimit.Permit> permit = limit.tryAcquire(nanoTime.getAsLong());
+        if (permit.isEmpty()) {
+            rejections.get(lane).increment();
+            Admission.reject(objectMapper, request, response, retryAfter,
+                    "Too many concurrent " + lane.tag() + " requests, retry later");
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Admission.releaseWhenComplete(request, () -> limit.release(permit.get(), nanoTime.getAsLong()));
+        }
+    }
+
+    AdaptiveConcurrencyLimit limit(RequestLane lane) {
+        return limits.get(lane);
+    }
+}
@@ -1,13 +1,27 @@
 package com.global.devices.devicesapi.adaptor.inadaptor.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkCreateResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkItemResult;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkStateChangeRequest;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkStateChangeResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceBatchResponse;
 import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceRequest;
 import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
 import com.global.devices.devicesapi.application.usecase.CreateDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.DeleteDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.GetDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.UpdateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceExportProperties;
 import com.global.devices.devicesapi.domain.exception.ErrorResponse;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,26 +29,53 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @RestController
 @RequestMapping("/devices-api/v1/devices")
+@Profile("!reactive")
 public class DeviceController {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    static final int MAX_BULK_SIZE = 10_000;
+
     private final CreateDeviceUseCase createDeviceUseCase;
     private final GetDeviceUseCase getDeviceUseCase;
     private final DeleteDeviceUseCase deleteDeviceUseCase;
     private final UpdateDeviceUseCase updateDeviceUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final DeviceExportProperties exportProperties;
 
     @PostMapping
     @Operation(summary = "Create a new device")
@@ -48,6 +89,59 @@ public class DeviceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(DeviceResponse.from(serviceResponse));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create devices in bulk",
+            description = "Validates every item on its own and creates the valid ones in one batch. "
+                    + "The response holds one result per item, in request order")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All devices created"),
+            @ApiResponse(responseCode = "207", description = "Some items were invalid, the rest were created"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized request")
+    })
+    public ResponseEntity<BulkCreateResponse> createDevices(@RequestBody List<DeviceRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new InvalidOperationException("Bulk create accepts between 1 and " + MAX_BULK_SIZE + " devices");
+        }
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<DeviceUseCaseRequest> validRequests = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                validRequests.add(requests.get(i).toUseCaseRequest());
+            } else {
+                results[i] = BulkItemResult.invalid(i, errors);
+            }
+        }
+
+        List<DeviceUseCaseResponse> created = validRequests.isEmpty()
+                ? List.of()
+                : createDeviceUseCase.createAll(validRequests);
+        for (int i = 0; i < created.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = BulkItemResult.created(index, DeviceResponse.from(created.get(i)));
+        }
+
+        int invalid = requests.size() - created.size();
+        var body = BulkCreateResponse.builder()
+                .created(created.size())
+                .invalid(invalid)
+                .results(List.of(results))
+                .build();
+        return ResponseEntity.status(invalid == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(body);
+    }
+
+    private Map<String, String> validate(DeviceRequest request) {
+        if (request == null) {
+            return Map.of("item", "Device is required");
+        }
+        return validator.validate(request).stream()
+                .collect(Collectors.toMap(violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage, (first, second) -> first));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update of device")
     @ApiResponses({
@@ -57,7 +151,7 @@ public class DeviceController {
     })
     public ResponseEntity<DeviceResponse> updateDevice(
             @PathVariable UUID id,
-            @RequestBody DeviceRequest request) {
+            @Valid @RequestBody DeviceRequest request) {
         var useCaseRequest = request.toUseCaseRequest();
         var response = updateDeviceUseCase.update(id, useCaseRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(DeviceResponse.from(response));
@@ -68,44 +162,178 @@ public class DeviceController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Device found",
                     content = @Content(schema = @Schema(implementation = DeviceResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Device unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Device not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<DeviceResponse> getDeviceById(
-            @Parameter(description = "Device ID") @PathVariable UUID id) {
-        return ResponseEntity.ok(DeviceResponse.from(getDeviceUseCase.findById(id)));
+            @Parameter(description = "Device ID") @PathVariable UUID id,
+            @Parameter(description = "ETag of a previously fetched representation")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Only the version is read here, so an unchanged device costs no entity or body
+            var version = getDeviceUseCase.findVersion(id);
+            if (version.isPresent() && ETags.matches(ifNoneMatch, ETags.strong(version.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.strong(version.get())).build();
+            }
+        }
+        var device = getDeviceUseCase.findById(id);
+        var response = ResponseEntity.ok();
+        if (device.getVersion() != null) {
+            response.eTag(ETags.strong(device.getVersion()));
+        }
+        return response.body(DeviceResponse.from(device));
     }
 
     @GetMapping
-    @Operation(summary = "Get all devices", description = "Retrieves all devices")
+    @Operation(summary = "Get all devices",
+            description = "Retrieves one page of devices ordered by creation time; follow the X-Next-Cursor header for more")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Devices retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Devices retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "No device changed since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
-    public ResponseEntity<List<DeviceResponse>> getDevices() {
+    public ResponseEntity<List<DeviceResponse>> getDevices(
+            @Parameter(description = "Opaque cursor from a previous X-Next-Cursor header") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + MAX_PAGE_SIZE) @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int pageSize = pageSize(limit);
+        DeviceCursor after = cursor == null ? null : DeviceCursor.decode(cursor);
+        return conditionalPage(ifNoneMatch, () -> getDeviceUseCase.getPage(after, pageSize), "all", cursor, pageSize);
+    }
 
-        return ResponseEntity.ok(fromList(getDeviceUseCase.getAll()));
+    /*
+    The sequence and the page are read from one snapshot on one connection, so a page is never
+    tagged with a sequence from another moment or, with a replica, from another server.
+    */
+    private ResponseEntity<List<DeviceResponse>> conditionalPage(
+            String ifNoneMatch, Supplier<DevicePage> query, Object... queryKey) {
+        return getDeviceUseCase.readSnapshot(() -> {
+            String etag = ETags.weak(getDeviceUseCase.getChangeSequence(), queryKey);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            DevicePage page = query.get();
+            var response = ResponseEntity.ok().eTag(etag);
+            if (page.next() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.next().encode());
+            }
+            return response.body(DeviceResponse.fromList(page.items()));
+        });
     }
-    private  List<DeviceResponse> fromList(List<DeviceUseCaseResponse> serviceResponses) {
-        if (serviceResponses == null || serviceResponses.isEmpty()) {
-            return List.of(); // Return an empty, immutable list
+
+    static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new InvalidOperationException("limit must be at least 1");
         }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
 
-        return serviceResponses.stream()
-                // Apply the single-object mapping method to every element in the list
-                .map(DeviceResponse::from)
-                .collect(Collectors.toList());
+    /*
+    Streams from a WebAsyncTask so the export runs under devices.export.timeout rather than the
+    container's default async timeout, with the caller's read routing carried over to the MVC
+    executor. A timeout completes the request and hands back its admission permit, so the writer
+    is told to stop at the next row instead of streaming on outside the limit.
+    */
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    @Operation(summary = "Export all devices",
+            description = "Streams every device as newline-delimited JSON, one device per line, in creation order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed")
+    })
+    public WebAsyncTask<Void> exportDevices(HttpServletResponse response) {
+        ObjectWriter writer = objectMapper.writerFor(DeviceResponse.class);
+        AtomicBoolean timedOut = new AtomicBoolean();
+        Callable<Void> export = ReadRouting.carryOver(() -> {
+            response.setContentType(NDJSON_VALUE);
+            OutputStream outputStream = response.getOutputStream();
+            getDeviceUseCase.exportAll(device -> {
+                if (timedOut.get()) {
+                    throw new CancellationException("Export timed out");
+                }
+                try {
+                    outputStream.write(writer.writeValueAsBytes(DeviceResponse.from(device)));
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            outputStream.flush();
+            return null;
+        });
+        WebAsyncTask<Void> task = new WebAsyncTask<>(exportProperties.getTimeout().toMillis(), export);
+        task.onTimeout(() -> {
+            timedOut.set(true);
+            throw new AsyncRequestTimeoutException();
+        });
+        return task;
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get devices by ids",
+            description = "Looks up to " + MAX_PAGE_SIZE + " comma-separated ids in one query. Devices come back "
+                    + "in request order, unknown ids are listed under missing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup done"),
+            @ApiResponse(responseCode = "400", description = "No ids, too many ids or a malformed id")
+    })
+    public ResponseEntity<DeviceBatchResponse> getByIds(@RequestParam List<UUID> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_PAGE_SIZE) {
+            throw new InvalidOperationException("ids must contain between 1 and " + MAX_PAGE_SIZE + " values");
+        }
+        return ResponseEntity.ok(DeviceBatchResponse.from(getDeviceUseCase.getByIds(ids)));
     }
 
     @GetMapping(params = "brand")
-    @Operation(summary = "Get devices by brand", description = "Retrieve devices by brand")
-    public ResponseEntity<List<DeviceResponse>>getByBrand(@RequestParam String brand) {
-        return ResponseEntity.ok(fromList(getDeviceUseCase.getByBrand(brand)));
+    @Operation(summary = "Get devices by brand", description = "Retrieve one page of devices by brand")
+    public ResponseEntity<List<DeviceResponse>>getByBrand(@RequestParam String brand,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int pageSize = pageSize(limit);
+        DeviceCursor after = cursor == null ? null : DeviceCursor.decode(cursor);
+        return conditionalPage(ifNoneMatch, () -> getDeviceUseCase.getPageByBrand(brand, after, pageSize),
+                "brand", brand, cursor, pageSize);
     }
 
     @GetMapping(params = "state")
-    @Operation(summary = "Get devices by state", description = "Retrieve all devices by state")
-    public ResponseEntity<List<DeviceResponse>> getByState(@RequestParam DeviceState state) {
-        return ResponseEntity.ok(fromList(getDeviceUseCase.getByState(state)));
+    @Operation(summary = "Get devices by state", description = "Retrieve one page of devices by state")
+    public ResponseEntity<List<DeviceResponse>> getByState(@RequestParam DeviceState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int pageSize = pageSize(limit);
+        DeviceCursor after = cursor == null ? null : DeviceCursor.decode(cursor);
+        return conditionalPage(ifNoneMatch, () -> getDeviceUseCase.getPageByState(state, after, pageSize),
+                "state", state, cursor, pageSize);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search devices",
+            description = "Combines optional brand, state and creation-time range filters. Returns one page ordered "
+                    + "by creation time; follow the X-Next-Cursor header for more")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Devices retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "No device changed since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid range, cursor or limit")
+    })
+    public ResponseEntity<List<DeviceResponse>> searchDevices(
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) DeviceState state,
+            @Parameter(description = "Inclusive lower bound on creation time, ISO-8601") @RequestParam(required = false) Instant createdAfter,
+            @Parameter(description = "Exclusive upper bound on creation time, ISO-8601") @RequestParam(required = false) Instant createdBefore,
+            @Parameter(description = "ASC (oldest first) or DESC") @RequestParam(defaultValue = "ASC") DeviceSearch.Order order,
+            @Parameter(description = "Opaque cursor from a previous X-Next-Cursor header") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + MAX_PAGE_SIZE) @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var search = new DeviceSearch(brand, state, createdAfter, createdBefore, order);
+        int pageSize = pageSize(limit);
+        DeviceCursor after = cursor == null ? null : DeviceCursor.decode(cursor);
+        return conditionalPage(ifNoneMatch, () -> getDeviceUseCase.search(search, after, pageSize),
+                "search", brand, state, createdAfter, createdBefore, order, cursor, pageSize);
     }
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a device", description = "Deletes a device by its ID (cannot delete IN_USE devices)")
@@ -122,6 +350,19 @@ public class DeviceController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/state")
+    @Operation(summary = "Change the state of many devices",
+            description = "Applies one state to all given ids in a single statement. Devices that are IN_USE "
+                    + "are left untouched and reported as rejected, unknown ids as missing")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ids split into changed, missing and rejected"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<BulkStateChangeResponse> changeState(@Valid @RequestBody BulkStateChangeRequest request) {
+        var result = updateDeviceUseCase.changeState(request.getIds(), request.getState());
+        return ResponseEntity.ok(BulkStateChangeResponse.from(result));
+    }
+
     @PatchMapping("/{id}")
     @Operation(summary = "Update of device")
     @ApiResponses({
@@ -0,0 +1,42 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import java.util.Arrays;
+
+/*
+Entity tag helpers for conditional GETs (RFC 9110, section 13.1.2).
+If-None-Match always uses the weak comparison, so W/ prefixes are ignored when matching.
+*/
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String strong(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Weak because list bodies are equivalent, not byte-identical, for the same sequence.
+    // The query is hashed through its string form so every node derives the same tag.
+    static String weak(long changeSequence, Object... query) {
+        return "W/\"" + changeSequence + "-" + Integer.toHexString(Arrays.toString(query).hashCode()) + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String opaqueTag = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaque(trimmed).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
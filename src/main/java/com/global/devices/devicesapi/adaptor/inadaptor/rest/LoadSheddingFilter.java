@@ -0,0 +1,128 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.config.DeviceLoadSheddingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/*
+Priority load shedding for the device endpoints. Every RequestLane runs in its own PriorityLane,
+so a bulk PATCH storm or a batch job paging through the table can only fill its own slots. When
+queueing delay builds up in a lane, every less important lane whose max-queue-time that delay has
+passed stops admitting work, bulk first and single-device reads last, which leaves the shared
+database to the reads the SLO is on.
+*/
+
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    enum Reason { PRESSURE, QUEUE_FULL, TIMED_OUT }
+
+    private final Map<RequestLane, PriorityLane> lanes = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Map<Reason, Counter>> shed = new EnumMap<>(RequestLane.class);
+    private final ObjectMapper objectMapper;
+    private final Duration retryAfter;
+
+    public LoadSheddingFilter(DeviceLoadSheddingProperties properties, MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper) {
+        this(properties, meterRegistry, objectMapper, System::nanoTime);
+    }
+
+    LoadSheddingFilter(DeviceLoadSheddingProperties properties, MeterRegistry meterRegistry,
+                       ObjectMapper objectMapper, LongSupplier nanoTime) {
+        this.objectMapper = objectMapper;
+        this.retryAfter = properties.getRetryAfter();
+        for (RequestLane lane : RequestLane.values()) {
+            PriorityLane priorityLane = new PriorityLane(settings(properties, lane), properties.getInterval(), nanoTime);
+            lanes.put(lane, priorityLane);
+            Gauge.builder("devices.http.lanes.active", priorityLane, PriorityLane::getActive)
+                    .description("Requests running in the lane")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("devices.http.lanes.queued", priorityLane, PriorityLane::getQueued)
+                    .description("Requests waiting for a slot in the lane")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("devices.http.lanes.queue.delay", priorityLane, l -> l.queueDelayNanos() / 1e9)
+                    .description("Shortest wait for a slot over the last interval")
+                    .tag("lane", lane.tag())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+            for (Reason reason : Reason.values()) {
+                counters.put(reason, Counter.builder("devices.http.lanes.shed")
+                        .description("Requests answered with 503 by load shedding")
+                        .tag("lane", lane.tag())
+                        .tag("reason", reason.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                        .register(meterRegistry));
+            }
+            shed.put(lane, counters);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestLane lane = RequestLane.of(request);
+        PriorityLane priorityLane = lanes.get(lane);
+        if (isUnderPressure(lane)) {
+            shed(request, response, lane, Reason.PRESSURE);
+            return;
+        }
+        PriorityLane.Entry entry = priorityLane.enter();
+        if (entry != PriorityLane.Entry.ADMITTED) {
+            shed(request, response, lane, entry == PriorityLane.Entry.QUEUE_FULL ? Reason.QUEUE_FULL : Reason.TIMED_OUT);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Admission.releaseWhenComplete(request, priorityLane::exit);
+        }
+    }
+
+    // A lane yields to delay in itself or in any lane that outranks it
+    private boolean isUnderPressure(RequestLane lane) {
+        PriorityLane priorityLane = lanes.get(lane);
+        for (RequestLane other : RequestLane.values()) {
+            if ((other == lane || other.outranks(lane))
+                    && priorityLane.isOverwhelmedBy(lanes.get(other).queueDelayNanos())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void shed(HttpServletRequest request, HttpServletResponse response, RequestLane lane, Reason reason)
+            throws IOException {
+        shed.get(lane).get(reason).increment();
+        Admission.reject(objectMapper, request, response, retryAfter,
+                "Server is busy, " + lane.tag() + " requests are shed, retry later");
+    }
+
+    PriorityLane lane(RequestLane lane) {
+        return lanes.get(lane);
+    }
+
+    private static DeviceLoadSheddingProperties.Lane settings(DeviceLoadSheddingProperties properties, RequestLane lane) {
+        return switch (lane) {
+            case READ -> properties.getRead();
+            case WRITE -> properties.getWrite();
+            case LIST -> properties.getList();
+            case BULK -> properties.getBulk();
+        };
+    }
+}
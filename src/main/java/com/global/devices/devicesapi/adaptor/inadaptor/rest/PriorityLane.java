@@ -0,0 +1,107 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.config.DeviceLoadSheddingProperties;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/*
+One bounded execution lane: at most maxConcurrency requests run, at most maxQueueSize wait, and
+none waits longer than maxQueueTime. Its queueing delay is the shortest wait seen over the last
+interval (as in CoDel): a burst that drains within the interval leaves it at zero, only a queue
+that stands for the whole interval raises it.
+*/
+
+final class PriorityLane {
+
+    enum Entry { ADMITTED, QUEUE_FULL, TIMED_OUT }
+
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final long maxQueueTimeNanos;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // Guarded by this
+    private long intervalStart;
+    private long intervalMinWait = Long.MAX_VALUE;
+    private long queueDelay;
+
+    PriorityLane(DeviceLoadSheddingProperties.Lane lane, Duration interval, LongSupplier nanoTime) {
+        this.maxConcurrency = lane.getMaxConcurrency();
+        this.maxQueueSize = lane.getMaxQueueSize();
+        this.maxQueueTimeNanos = lane.getMaxQueueTime().toNanos();
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.intervalStart = nanoTime.getAsLong();
+    }
+
+    Entry enter() {
+        if (permits.tryAcquire()) {
+            recordWait(0);
+            return Entry.ADMITTED;
+        }
+        if (queued.incrementAndGet() > maxQueueSize) {
+            queued.decrementAndGet();
+            return Entry.QUEUE_FULL;
+        }
+        long start = nanoTime.getAsLong();
+        boolean admitted = false;
+        try {
+            admitted = permits.tryAcquire(maxQueueTimeNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        recordWait(nanoTime.getAsLong() - start);
+        return admitted ? Entry.ADMITTED : Entry.TIMED_OUT;
+    }
+
+    void exit() {
+        permits.release();
+    }
+
+    synchronized void recordWait(long waitNanos) {
+        roll();
+        intervalMinWait = Math.min(intervalMinWait, waitNanos);
+    }
+
+    // Zero when the lane saw no waits in the last interval
+    synchronized long queueDelayNanos() {
+        roll();
+        return queueDelay;
+    }
+
+    // The delay at which this lane stops taking work
+    boolean isOverwhelmedBy(long queueDelayNanos) {
+        return queueDelayNanos > 0 && queueDelayNanos >= maxQueueTimeNanos;
+    }
+
+    int getActive() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    int getQueued() {
+        return queued.get();
+    }
+
+    private void roll() {
+        long now = nanoTime.getAsLong();
+        long elapsed = now - intervalStart;
+        if (elapsed < intervalNanos) {
+            return;
+        }
+        // An interval followed by silence says nothing about the present
+        boolean previousIsRecent = elapsed < 2 * intervalNanos;
+        queueDelay = previousIsRecent && intervalMinWait != Long.MAX_VALUE ? intervalMinWait : 0;
+        intervalStart = now;
+        intervalMinWait = Long.MAX_VALUE;
+    }
+}
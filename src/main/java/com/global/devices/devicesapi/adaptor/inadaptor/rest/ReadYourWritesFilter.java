@@ -0,0 +1,80 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/*
+Read-your-writes on top of the read replica. Every write hands the client a cookie holding the
+end of its sticky window; reads that bring a cookie still within its window go to the primary.
+The cookie is set before the write runs, as the response may be committed by the time it returns,
+and the state stays with the client, so it holds whichever node serves the next request.
+*/
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "devices-primary-until";
+
+    private final Duration window;
+    private final LongSupplier currentTimeMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    ReadYourWritesFilter(Duration window, LongSupplier currentTimeMillis) {
+        this.window = window;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isRead(request)) {
+            response.addCookie(stickyCookie(request));
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!isSticky(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (var primary = ReadRouting.requirePrimary()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private Cookie stickyCookie(HttpServletRequest request) {
+        var cookie = new Cookie(COOKIE_NAME, String.valueOf(currentTimeMillis.getAsLong() + window.toMillis()));
+        cookie.setPath(request.getContextPath() + "/devices-api");
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+
+    private boolean isSticky(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(cookie.getValue()) > currentTimeMillis.getAsLong();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
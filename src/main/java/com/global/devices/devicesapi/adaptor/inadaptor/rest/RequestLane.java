@@ -0,0 +1,41 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.Locale;
+
+/*
+Traffic classes of the device endpoints, most important first. READ is the single-device lookup
+the SLO is defined on; LIST covers every multi-row read (pages, brand/state/search, ids) and
+BULK the bulk create, the set-based state change and the full export.
+*/
+
+enum RequestLane {
+
+    READ, WRITE, LIST, BULK;
+
+    private static final String BASE_PATH = "/devices-api/v1/devices";
+
+    static RequestLane of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.endsWith("/bulk") || path.endsWith("/state") || path.endsWith("/export")) {
+            return BULK;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return WRITE;
+        }
+        boolean singleDevice = path.startsWith(BASE_PATH + "/") && !path.endsWith("/search")
+                && path.indexOf('/', BASE_PATH.length() + 1) < 0;
+        return singleDevice ? READ : LIST;
+    }
+
+    boolean outranks(RequestLane other) {
+        return ordinal() < other.ordinal();
+    }
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+Response of a bulk create: totals plus one result per request item, in request order
+*/
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponse {
+    private int created;
+    private int invalid;
+    private List<BulkItemResult> results;
+}
@@ -0,0 +1,36 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/*
+Outcome of one item of a bulk create, index is the item's position in the request array
+*/
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    public enum Status { CREATED, INVALID }
+
+    private int index;
+    private Status status;
+    private DeviceResponse device;
+    private Map<String, String> errors;
+
+    public static BulkItemResult created(int index, DeviceResponse device) {
+        return BulkItemResult.builder().index(index).status(Status.CREATED).device(device).build();
+    }
+
+    public static BulkItemResult invalid(int index, Map<String, String> errors) {
+        return BulkItemResult.builder().index(index).status(Status.INVALID).errors(errors).build();
+    }
+}
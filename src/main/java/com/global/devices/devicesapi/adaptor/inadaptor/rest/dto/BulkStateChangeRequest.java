@@ -0,0 +1,31 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
+
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+Request to move many devices to one state
+*/
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStateChangeRequest {
+
+    @NotEmpty(message = "ids are required")
+    @Size(max = 10_000, message = "at most 10000 ids per request")
+    private List<@NotNull(message = "ids must not contain null") UUID> ids;
+
+    @NotNull(message = "state is required")
+    private DeviceState state;
+}
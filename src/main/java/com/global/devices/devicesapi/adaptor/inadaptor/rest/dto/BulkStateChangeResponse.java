@@ -0,0 +1,32 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
+
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+Ids of a bulk state change split by outcome; rejected ids are devices currently IN_USE
+*/
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStateChangeResponse {
+    private List<UUID> changed;
+    private List<UUID> missing;
+    private List<UUID> rejected;
+
+    public static BulkStateChangeResponse from(BulkStateChangeResult result) {
+        return BulkStateChangeResponse.builder()
+                .changed(result.changed())
+                .missing(result.missing())
+                .rejected(result.rejected())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
+
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+Result of a batch lookup: devices in request order, unknown ids listed separately
+*/
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceBatchResponse {
+    private List<DeviceResponse> items;
+    private List<UUID> missing;
+
+    public static DeviceBatchResponse from(DeviceBatch batch) {
+        return DeviceBatchResponse.builder()
+                .items(DeviceResponse.fromList(batch.items()))
+                .missing(batch.missing())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
 
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.mapper.DeviceRestMapper;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import jakarta.validation.constraints.NotBlank;
@@ -29,10 +30,6 @@ public class DeviceRequest {
     private DeviceState state;
 
     public DeviceUseCaseRequest toUseCaseRequest() {
-        return DeviceUseCaseRequest.builder()
-                .name(this.name)
-                .brand(this.brand)
-                .state(this.state)
-                .build();
+        return DeviceRestMapper.INSTANCE.toUseCaseRequest(this);
     }
 }
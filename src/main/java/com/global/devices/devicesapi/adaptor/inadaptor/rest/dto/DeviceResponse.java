@@ -1,5 +1,6 @@
 package com.global.devices.devicesapi.adaptor.inadaptor.rest.dto;
 
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.mapper.DeviceRestMapper;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -22,12 +24,14 @@ public class DeviceResponse {
     private Instant creationTime;
 
     public static DeviceResponse from(DeviceUseCaseResponse device) {
-        return com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse.builder()
-                .id(device.getId())
-                .name(device.getName())
-                .brand(device.getBrand())
-                .state(device.getState())
-                .creationTime(device.getCreationTime())
-                .build();
+        return DeviceRestMapper.INSTANCE.toResponse(device);
     }
-}
\ No newline at end of file
+
+    public static List<DeviceResponse> fromList(List<DeviceUseCaseResponse> serviceResponses) {
+        if (serviceResponses == null || serviceResponses.isEmpty()) {
+            return List.of(); // Return an empty, immutable list
+        }
+
+        return DeviceRestMapper.INSTANCE.toResponseList(serviceResponses);
+    }
+}
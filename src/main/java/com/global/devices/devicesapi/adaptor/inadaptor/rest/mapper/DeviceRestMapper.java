@@ -0,0 +1,29 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.mapper;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceRequest;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceMapperConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/*
+REST DTOs <-> use-case DTOs, generated at compile time.
+The version is not part of DeviceResponse; it travels in the ETag header instead.
+List mapping presizes the result to the input size.
+*/
+
+@Mapper(config = DeviceMapperConfig.class)
+public interface DeviceRestMapper {
+
+    DeviceRestMapper INSTANCE = Mappers.getMapper(DeviceRestMapper.class);
+
+    DeviceUseCaseRequest toUseCaseRequest(DeviceRequest request);
+
+    DeviceResponse toResponse(DeviceUseCaseResponse device);
+
+    List<DeviceResponse> toResponseList(List<DeviceUseCaseResponse> devices);
+}
@@ -0,0 +1,203 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.notification;
+
+import com.global.devices.devicesapi.application.datasource.DeviceCache;
+import com.global.devices.devicesapi.application.datasource.DeviceIdFilter;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/*
+Keeps one dedicated (non-pooled) LISTEN connection and evicts the ids other nodes write,
+adding them to the id filter as well since they may be new devices.
+Whenever the connection is lost the whole cache is flushed, and flushed again once LISTEN
+is re-established, because notifications sent in between are gone for good; for the same
+reason the id filter is reset and rebuilt.
+A connection that dies without a FIN (NAT or firewall timeout, failover) would otherwise look
+like a quiet channel forever, so the connection uses TCP keepalive and a socket timeout, and a
+SELECT 1 every livenessCheckInterval turns a dead peer into the same reconnect-and-flush.
+*/
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "devices.cache.invalidation", name = "enabled", havingValue = "true")
+@Profile("!reactive")
+public class DeviceInvalidationListener implements SmartLifecycle {
+
+    static final String APPLICATION_NAME = "devices-api-invalidation-listener";
+    // LISTEN takes no bind parameters, so the channel is spliced in; only plain identifiers are accepted
+    static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DeviceCacheProperties.Invalidation properties;
+    private final DeviceCache deviceCache;
+    private final DeviceIdFilter deviceIdFilter;
+    private final String nodeId;
+    private final Counter received;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public DeviceInvalidationListener(DataSourceProperties dataSourceProperties,
+                                      DeviceCacheProperties cacheProperties,
+                                      DeviceCache deviceCache,
+                                      DeviceIdFilter deviceIdFilter,
+                                      DeviceInvalidationPublisher publisher,
+                                      MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = cacheProperties.getInvalidation();
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("devices.cache.invalidation.channel must be a lowercase identifier, got '"
+                    + properties.getChannel() + "'");
+        }
+        this.deviceCache = deviceCache;
+        this.deviceIdFilter = deviceIdFilter;
+        this.nodeId = publisher.getNodeId();
+        this.received = Counter.builder("devices.cache.invalidation.received")
+                .description("Invalidation messages received from other nodes")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("devices.cache.invalidation.reconnects")
+                .description("Times the LISTEN connection was re-established (each flushes the cache)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name(APPLICATION_NAME)
+                .daemon(true)
+                .start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean firstConnection = true;
+        while (running) {
+            try (Connection connection = openConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + pgConnection.escapeIdentifier(properties.getChannel()));
+                }
+                if (!firstConnection) {
+                    reconnects.increment();
+                    deviceCache.evictAll();
+                    deviceIdFilter.reset();
+                    log.info("Invalidation listener reconnected, device cache flushed");
+                }
+                firstConnection = false;
+                poll(connection, pgConnection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                deviceCache.evictAll();
+                deviceIdFilter.reset();
+                log.warn("Invalidation listener lost its connection, device cache flushed: {}", ex.getMessage());
+                firstConnection = false;
+                backoff();
+            }
+        }
+    }
+
+    private void poll(Connection connection, PGConnection pgConnection) throws SQLException {
+        int timeoutMillis = (int) properties.getPollTimeout().toMillis();
+        long livenessIntervalNanos = properties.getLivenessCheckInterval().toNanos();
+        long lastCheck = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+            }
+            if (System.nanoTime() - lastCheck >= livenessIntervalNanos) {
+                checkAlive(connection);
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    // Throws on a dead connection, which sends listenLoop down the reconnect-and-flush path
+    static void checkAlive(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    void handle(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            log.warn("Ignoring malformed invalidation message '{}'", payload);
+            return;
+        }
+        if (nodeId.equals(payload.substring(0, separator))) {
+            return; // our own write, the local cache was already updated by the wrapper
+        }
+        try {
+            UUID deviceId = UUID.fromString(payload.substring(separator + 1));
+            deviceIdFilter.add(deviceId);
+            deviceCache.evict(deviceId);
+            received.increment();
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed invalidation message '{}'", payload);
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        // LISTEN only delivers outside an open transaction
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties());
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    Properties connectionProperties() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        connectionProperties.setProperty("password", dataSourceProperties.determinePassword());
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        // Bounds the liveness query; getNotifications applies its own, shorter timeout while polling
+        long socketTimeoutSeconds = Math.max(1, properties.getLivenessCheckInterval().toSeconds());
+        connectionProperties.setProperty("socketTimeout", Long.toString(socketTimeoutSeconds));
+        return connectionProperties;
+    }
+
+    private void backoff() {
+        try {
+            Thread.sleep(properties.getReconnectBackoff().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
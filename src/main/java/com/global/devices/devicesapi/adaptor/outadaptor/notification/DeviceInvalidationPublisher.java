@@ -0,0 +1,62 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.notification;
+
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+Publishes "<nodeId>:<deviceId>" on the invalidation channel.
+Must be called inside the writing transaction: Postgres delivers NOTIFY only on commit
+and drops it on rollback, so other nodes never evict for a write that did not happen.
+*/
+
+@Component
+@Profile("!reactive")
+public class DeviceInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DeviceCacheProperties.Invalidation properties;
+    private final String nodeId;
+
+    public DeviceInvalidationPublisher(JdbcTemplate jdbcTemplate, DeviceCacheProperties cacheProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = cacheProperties.getInvalidation();
+        this.nodeId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    public void publish(UUID deviceId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String payload = nodeId + ":" + deviceId;
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+            ps.setString(1, properties.getChannel());
+            ps.setString(2, payload);
+            return ps.execute();
+        });
+    }
+
+    // One round trip for many ids, each still delivered as its own message
+    public void publishAll(Collection<UUID> deviceIds) {
+        if (!properties.isEnabled() || deviceIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute("SELECT pg_notify(?, ? || ':' || id) FROM unnest(?) AS id",
+                (PreparedStatementCallback<Boolean>) ps -> {
+                    ps.setString(1, properties.getChannel());
+                    ps.setString(2, nodeId);
+                    ps.setArray(3, ps.getConnection().createArrayOf("uuid", deviceIds.toArray()));
+                    return ps.execute();
+                });
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceChangeSequenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface DeviceChangeSequenceJpaRepository extends JpaRepository<DeviceChangeSequenceEntity, Short> {
+
+    // One statement that also creates the row on first use, so concurrent first writers cannot both insert it
+    @Modifying
+    @Query(value = """
+            INSERT INTO device_change_sequence (id, sequence_value) VALUES (:id, 1)
+            ON CONFLICT (id) DO UPDATE SET sequence_value = device_change_sequence.sequence_value + 1""",
+            nativeQuery = true)
+    int increment(@Param("id") short id);
+
+    @Query("select s.sequenceValue from DeviceChangeSequenceEntity s where s.id = :id")
+    Optional<Long> findSequenceValue(@Param("id") short id);
+}
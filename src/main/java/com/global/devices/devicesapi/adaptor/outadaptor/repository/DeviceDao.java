@@ -1,77 +1,305 @@
 package com.global.devices.devicesapi.adaptor.outadaptor.repository;
 
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.DeviceInvalidationPublisher;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper.DeviceEntityMapper;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceChangeSequenceEntity;
 import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryPort;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+Writes and single-device reads (which feed the cache and the conditional GETs) always use the
+primary. The scans, list pages, search, export and the change sequence their ETags are built
+from may be served by the read replica when one is configured (see ReadRouting).
+*/
 
 @Component
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class DeviceDao implements DeviceRepositoryPort {
 
+    static final int EXPORT_FETCH_SIZE = 500;
+    private static final String EXPORT_QUERY =
+            "SELECT id, name, brand, state, creation_time, version FROM device ORDER BY creation_time, id";
+
+    private static final String CONDITIONAL_UPDATE = """
+            UPDATE device
+               SET name = COALESCE(?, name), brand = COALESCE(?, brand), state = COALESCE(?, state),
+                   version = version + 1
+             WHERE id = ? AND state <> 'IN_USE'
+            RETURNING id, name, brand, state, creation_time, version""";
+    // PUT replaces the whole device, so nothing falls back to the stored value
+    private static final String CONDITIONAL_REPLACE = """
+            UPDATE device
+               SET name = ?, brand = ?, state = ?, version = version + 1
+             WHERE id = ? AND state <> 'IN_USE'
+            RETURNING id, name, brand, state, creation_time, version""";
+    private static final int[] CONDITIONAL_UPDATE_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.OTHER};
+    private static final String BATCH_INSERT =
+            "INSERT INTO device (id, name, brand, state, creation_time, version) VALUES (?, ?, ?, ?, ?, 0)";
+    // Locks the requested rows, updates those not IN_USE and reports every existing id with its outcome
+    private static final String BULK_STATE_CHANGE = """
+            WITH target AS (
+                SELECT id, state FROM device WHERE id = ANY(?) FOR UPDATE
+            ), updated AS (
+                UPDATE device d SET state = ?, version = d.version + 1
+                  FROM target t
+                 WHERE d.id = t.id AND t.state <> 'IN_USE'
+                RETURNING d.id
+            )
+            SELECT t.id, u.id IS NOT NULL AS changed
+              FROM target t LEFT JOIN updated u ON u.id = t.id""";
+    private static final String CONDITIONAL_DELETE = "DELETE FROM device WHERE id = ? AND state <> 'IN_USE'";
+
     private final DeviceJpaRepository jpaRepository;
+    private final DeviceQueryRepository queries;
+    private final JdbcTemplate jdbcTemplate;
+    private final DeviceChangeSequenceJpaRepository changeSequenceRepository;
+    private final DeviceInvalidationPublisher invalidationPublisher;
+    private final DeviceBulkProperties bulkProperties;
 
 
     @Override
+    @Transactional
     public Device save(Device device) {
         DeviceEntity entity = device.toEntity();
         DeviceEntity saved = jpaRepository.save(entity);
-        return toDomain(saved);
+        afterWrite(saved.getId());
+        return DeviceEntityMapper.INSTANCE.toDomain(saved);
     }
 
+    /*
+    Plain JDBC batches of bulkProperties.chunkSize rows, bypassing the persistence context.
+    One sequence bump covers the whole batch, and one notification round trip tells the
+    other nodes about the new ids (their id filters would otherwise reject them).
+    */
+    @Override
+    @Transactional
+    public List<Device> saveAll(List<Device> devices) {
+        if (devices.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(BATCH_INSERT, devices, bulkProperties.getChunkSize(), (ps, device) -> {
+            ps.setObject(1, device.getId());
+            ps.setString(2, device.getName());
+            ps.setString(3, device.getBrand());
+            ps.setString(4, device.getState().name());
+            ps.setTimestamp(5, Timestamp.from(device.getCreationTime()));
+        });
+        incrementChangeSequence();
+        invalidationPublisher.publishAll(devices.stream().map(Device::getId).toList());
+        return devices.stream()
+                .map(device -> new Device(device.getId(), device.getName(), device.getBrand(), device.getState(),
+                        device.getCreationTime(), 0L))
+                .toList();
+    }
 
+    /*
+    Runs inside the writing transaction. The sequence row stays locked until commit,
+    which serializes writers; acceptable for this read-heavy table and it keeps the
+    sequence and the data it describes from ever being observed out of step.
+    */
+    private void afterWrite(UUID deviceId) {
+        incrementChangeSequence();
+        invalidationPublisher.publish(deviceId);
+    }
 
-    private  Device toDomain(DeviceEntity entity) {
-        return new Device(
-                entity.getId(),
-                entity.getName(),
-                entity.getBrand(),
-                entity.getState(),
-                entity.getCreationTime()
-        );
+    private void incrementChangeSequence() {
+        changeSequenceRepository.increment(DeviceChangeSequenceEntity.DEVICES);
     }
 
+    /*
+    The IN_USE check and the write are one statement, so there is no window between reading
+    the state and changing the row. Version is bumped by hand because Hibernate is bypassed.
+    */
+    @Override
+    @Transactional
+    public Optional<Device> updateIfNotInUse(UUID id, String name, String brand, DeviceState state) {
+        return conditionalUpdate(CONDITIONAL_UPDATE, id, name, brand, state);
+    }
 
     @Override
-    public List<Device> findAll() {
-        List<DeviceEntity> entities = jpaRepository.findAll();
-        return toDomainList(entities);
+    @Transactional
+    public Optional<Device> replaceIfNotInUse(UUID id, String name, String brand, DeviceState state) {
+        return conditionalUpdate(CONDITIONAL_REPLACE, id, name, brand, state);
     }
 
-    public List<Device> toDomainList(List<DeviceEntity> entities) {
-        if (entities == null) {
-            return List.of();
+    private Optional<Device> conditionalUpdate(String sql, UUID id, String name, String brand, DeviceState state) {
+        Object[] args = {name, brand, state == null ? null : state.name(), id};
+        Optional<Device> updated = jdbcTemplate.query(sql, args, CONDITIONAL_UPDATE_TYPES,
+                (resultSet, rowNum) -> mapRow(resultSet)).stream().findFirst();
+        updated.ifPresent(device -> afterWrite(device.getId()));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteIfNotInUse(UUID id) {
+        if (jdbcTemplate.update(CONDITIONAL_DELETE, ps -> ps.setObject(1, id)) == 0) {
+            return false;
         }
-        return entities.stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        afterWrite(id);
+        return true;
     }
+
+    @Override
+    @Transactional
+    public DeviceStateChange changeStateIfNotInUse(Collection<UUID> ids, DeviceState state) {
+        Set<UUID> changed = new HashSet<>();
+        Set<UUID> rejected = new HashSet<>();
+        if (ids.isEmpty()) {
+            return new DeviceStateChange(changed, rejected);
+        }
+        jdbcTemplate.query(BULK_STATE_CHANGE, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+            ps.setString(2, state.name());
+        }, (RowCallbackHandler) resultSet -> {
+            UUID id = resultSet.getObject("id", UUID.class);
+            (resultSet.getBoolean("changed") ? changed : rejected).add(id);
+        });
+        if (!changed.isEmpty()) {
+            incrementChangeSequence();
+            invalidationPublisher.publishAll(changed);
+        }
+        return new DeviceStateChange(changed, rejected);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpaRepository.existsById(id);
+    }
+
+    @Override
+    public long currentChangeSequence() {
+        return onReplica(() -> changeSequenceRepository.findSequenceValue(DeviceChangeSequenceEntity.DEVICES).orElse(0L));
+    }
+
+
+
+    /*
+    Rows come through a server-side cursor EXPORT_FETCH_SIZE at a time (the Postgres driver
+    only does this with autocommit off, hence the transaction) and are mapped straight to
+    Device without a persistence context, so memory stays flat whatever the table size.
+    */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Device> consumer) {
+        try (var replica = ReadRouting.preferReplica()) {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(EXPORT_QUERY);
+                statement.setFetchSize(EXPORT_FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> consumer.accept(mapRow(resultSet)));
+        }
+    }
+
+    static Device mapRow(ResultSet resultSet) throws SQLException {
+        return new Device(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("brand"),
+                DeviceState.valueOf(resultSet.getString("state")),
+                resultSet.getTimestamp("creation_time").toInstant(),
+                resultSet.getLong("version")
+        );
+    }
+
     @Override
     public Optional<Device> findById(UUID id) {
-        return jpaRepository.findById(id).map(this::toDomain);
+        return queries.findById(id);
+    }
+
+    @Override
+    public List<Device> findAllByIds(Collection<UUID> ids) {
+        return queries.findAllByIds(ids);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return queries.findVersionById(id);
+    }
+
+    @Override
+    public List<Device> findAll() {
+        return onReplica(() -> queries.findAll());
     }
 
     @Override
     public List<Device> findByBrand(String brand) {
-        List<DeviceEntity> entities = jpaRepository.findByBrand(brand);
-        return toDomainList(entities);
+        return onReplica(() -> queries.findByBrand(brand));
     }
 
     @Override
     public List<Device> findByState(DeviceState state) {
-        List<DeviceEntity> entities = jpaRepository.findByState(state);
-        return toDomainList(entities);
+        return onReplica(() -> queries.findByState(state));
+    }
+
+    @Override
+    public List<Device> findPage(DeviceCursor after, int limit) {
+        return onReplica(() -> queries.findPage(after, limit));
+    }
+
+    @Override
+    public List<Device> findPageByBrand(String brand, DeviceCursor after, int limit) {
+        return onReplica(() -> queries.findPageByBrand(brand, after, limit));
+    }
+
+    @Override
+    public List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit) {
+        return onReplica(() -> queries.findPageByState(state, after, limit));
+    }
+
+    @Override
+    public List<Device> search(DeviceSearch search, DeviceCursor after, int limit) {
+        return onReplica(() -> queries.search(search, after, limit));
+    }
+
+    /*
+    REPEATABLE READ gives every statement of the callback the snapshot taken by the first one,
+    so a list page is read from the same state as the change sequence that tags it.
+    */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public <T> T readSnapshot(Supplier<T> reads) {
+        return onReplica(reads);
+    }
+
+    private static <T> T onReplica(Supplier<T> read) {
+        try (var replica = ReadRouting.preferReplica()) {
+            return read.get();
+        }
     }
 
     @Override
+    @Transactional
     public void deleteById(UUID deviceId) {
         jpaRepository.deleteById(deviceId);
+        afterWrite(deviceId);
     }
 }
\ No newline at end of file
@@ -2,12 +2,44 @@ package com.global.devices.devicesapi.adaptor.outadaptor.repository;
 
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface DeviceJpaRepository extends JpaRepository<DeviceEntity, UUID> {
+public interface DeviceJpaRepository extends JpaRepository<DeviceEntity, UUID>, DeviceSearchRepository {
     List<DeviceEntity> findByBrand(String brand);
     List<DeviceEntity> findByState(DeviceState state);
+
+    // Keyset pages on (creation_time, id), each served by the matching composite index
+    @Query("select d from DeviceEntity d order by d.creationTime, d.id")
+    List<DeviceEntity> findFirstPage(Limit limit);
+
+    @Query("select d from DeviceEntity d where (d.creationTime, d.id) > (:creationTime, :id) order by d.creationTime, d.id")
+    List<DeviceEntity> findPageAfter(@Param("creationTime") Instant creationTime, @Param("id") UUID id, Limit limit);
+
+    @Query("select d from DeviceEntity d where d.brand = :brand order by d.creationTime, d.id")
+    List<DeviceEntity> findFirstPageByBrand(@Param("brand") String brand, Limit limit);
+
+    @Query("select d from DeviceEntity d where d.brand = :brand and (d.creationTime, d.id) > (:creationTime, :id) "
+            + "order by d.creationTime, d.id")
+    List<DeviceEntity> findPageByBrandAfter(@Param("brand") String brand, @Param("creationTime") Instant creationTime,
+                                            @Param("id") UUID id, Limit limit);
+
+    @Query("select d from DeviceEntity d where d.state = :state order by d.creationTime, d.id")
+    List<DeviceEntity> findFirstPageByState(@Param("state") DeviceState state, Limit limit);
+
+    @Query("select d from DeviceEntity d where d.state = :state and (d.creationTime, d.id) > (:creationTime, :id) "
+            + "order by d.creationTime, d.id")
+    List<DeviceEntity> findPageByStateAfter(@Param("state") DeviceState state, @Param("creationTime") Instant creationTime,
+                                            @Param("id") UUID id, Limit limit);
+
+    // Projection used for conditional GETs, the entity is never hydrated
+    @Query("select d.version from DeviceEntity d where d.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+Read side of DeviceDao, the queries behind DeviceRepositoryPort.
+devices.read-adaptor picks the implementation: "jpa" (default) reads through Hibernate,
+"jdbc" maps rows straight to Device with plain prepared statements.
+Writes always stay in DeviceDao.
+*/
+public interface DeviceQueryRepository {
+    Optional<Device> findById(UUID id);
+    List<Device> findAllByIds(Collection<UUID> ids);
+    Optional<Long> findVersionById(UUID id);
+    List<Device> findAll();
+    List<Device> findByBrand(String brand);
+    List<Device> findByState(DeviceState state);
+    List<Device> findPage(DeviceCursor after, int limit);
+    List<Device> findPageByBrand(String brand, DeviceCursor after, int limit);
+    List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit);
+    List<Device> search(DeviceSearch search, DeviceCursor after, int limit);
+}
@@ -0,0 +1,12 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+
+import java.util.List;
+
+// Spring Data fragment of DeviceJpaRepository for the search, whose WHERE clause depends on the filters given
+public interface DeviceSearchRepository {
+    List<DeviceEntity> search(DeviceSearch search, DeviceCursor after, int limit);
+}
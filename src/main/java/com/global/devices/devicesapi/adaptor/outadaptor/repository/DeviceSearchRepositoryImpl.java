@@ -0,0 +1,63 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+Only the filters that were given end up in the WHERE clause, so each combination is a
+distinct statement the planner can match to its composite index: equality columns first
+(brand, state), then the creation-time range and keyset condition on (creation_time, id).
+DESC pages walk the same index backwards.
+*/
+
+@RequiredArgsConstructor
+class DeviceSearchRepositoryImpl implements DeviceSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DeviceEntity> search(DeviceSearch search, DeviceCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        if (search.brand() != null) {
+            conditions.add("d.brand = :brand");
+            parameters.put("brand", search.brand());
+        }
+        if (search.state() != null) {
+            conditions.add("d.state = :state");
+            parameters.put("state", search.state());
+        }
+        if (search.createdAfter() != null) {
+            conditions.add("d.creationTime >= :createdAfter");
+            parameters.put("createdAfter", search.createdAfter());
+        }
+        if (search.createdBefore() != null) {
+            conditions.add("d.creationTime < :createdBefore");
+            parameters.put("createdBefore", search.createdBefore());
+        }
+        if (after != null) {
+            conditions.add("(d.creationTime, d.id) " + (search.descending() ? "<" : ">") + " (:afterTime, :afterId)");
+            parameters.put("afterTime", after.creationTime());
+            parameters.put("afterId", after.id());
+        }
+
+        StringBuilder jpql = new StringBuilder("select d from DeviceEntity d");
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(search.descending() ? " order by d.creationTime desc, d.id desc" : " order by d.creationTime, d.id");
+
+        TypedQuery<DeviceEntity> query = entityManager.createQuery(jpql.toString(), DeviceEntity.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+Reads with plain prepared statements: each row becomes a Device directly (DeviceDao.mapRow),
+with no entity, persistence context or dirty-checking snapshot in between.
+The keyset queries match the JPQL ones and use the same composite indexes.
+*/
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "devices", name = "read-adaptor", havingValue = "jdbc")
+@Profile("!reactive")
+public class JdbcDeviceQueryRepository implements DeviceQueryRepository {
+
+    private static final String SELECT = "SELECT id, name, brand, state, creation_time, version FROM device";
+    private static final String AFTER = " (creation_time, id) > (?, ?)";
+    private static final String PAGE = " ORDER BY creation_time, id LIMIT ?";
+    private static final RowMapper<Device> ROW_MAPPER = (resultSet, rowNum) -> DeviceDao.mapRow(resultSet);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Device> findById(UUID id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Device> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // One array parameter: the statement text stays the same whatever the number of ids
+        return jdbcTemplate.query(SELECT + " WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())), ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return jdbcTemplate.queryForList("SELECT version FROM device WHERE id = ?", Long.class, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Device> findAll() {
+        return jdbcTemplate.query(SELECT, ROW_MAPPER);
+    }
+
+    @Override
+    public List<Device> findByBrand(String brand) {
+        return jdbcTemplate.query(SELECT + " WHERE brand = ?", ROW_MAPPER, brand);
+    }
+
+    @Override
+    public List<Device> findByState(DeviceState state) {
+        return jdbcTemplate.query(SELECT + " WHERE state = ?", ROW_MAPPER, state.name());
+    }
+
+    @Override
+    public List<Device> findPage(DeviceCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(SELECT + PAGE, ROW_MAPPER, limit)
+                : jdbcTemplate.query(SELECT + " WHERE" + AFTER + PAGE, ROW_MAPPER,
+                        Timestamp.from(after.creationTime()), after.id(), limit);
+    }
+
+    @Override
+    public List<Device> findPageByBrand(String brand, DeviceCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(SELECT + " WHERE brand = ?" + PAGE, ROW_MAPPER, brand, limit)
+                : jdbcTemplate.query(SELECT + " WHERE brand = ? AND" + AFTER + PAGE, ROW_MAPPER,
+                        brand, Timestamp.from(after.creationTime()), after.id(), limit);
+    }
+
+    @Override
+    public List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(SELECT + " WHERE state = ?" + PAGE, ROW_MAPPER, state.name(), limit)
+                : jdbcTemplate.query(SELECT + " WHERE state = ? AND" + AFTER + PAGE, ROW_MAPPER,
+                        state.name(), Timestamp.from(after.creationTime()), after.id(), limit);
+    }
+
+    @Override
+    public List<Device> search(DeviceSearch search, DeviceCursor after, int limit) {
+        SearchQuery query = searchQuery(search, after, limit);
+        return jdbcTemplate.query(query.sql(), ROW_MAPPER, query.args());
+    }
+
+    // Same shape as the JPQL search: only the given filters, equality columns before the range
+    static SearchQuery searchQuery(DeviceSearch search, DeviceCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (search.brand() != null) {
+            conditions.add("brand = ?");
+            args.add(search.brand());
+        }
+        if (search.state() != null) {
+            conditions.add("state = ?");
+            args.add(search.state().name());
+        }
+        if (search.createdAfter() != null) {
+            conditions.add("creation_time >= ?");
+            args.add(Timestamp.from(search.createdAfter()));
+        }
+        if (search.createdBefore() != null) {
+            conditions.add("creation_time < ?");
+            args.add(Timestamp.from(search.createdBefore()));
+        }
+        if (after != null) {
+            conditions.add("(creation_time, id) " + (search.descending() ? "<" : ">") + " (?, ?)");
+            args.add(Timestamp.from(after.creationTime()));
+            args.add(after.id());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(search.descending() ? " ORDER BY creation_time DESC, id DESC LIMIT ?" : PAGE);
+        args.add(limit);
+        return new SearchQuery(sql.toString(), args.toArray());
+    }
+
+    record SearchQuery(String sql, Object[] args) {
+    }
+}
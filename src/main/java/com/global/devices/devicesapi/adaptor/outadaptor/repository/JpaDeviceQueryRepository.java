@@ -0,0 +1,107 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper.DeviceEntityMapper;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+Reads through Spring Data JPA: entities are loaded into a persistence context, then mapped to Device.
+Every call is its own read-only transaction. Spring then marks the Hibernate session
+read-only (no snapshot copies for dirty checking) with flush mode MANUAL, and the
+connection goes back to the pool when the method returns, before any serialization.
+The boundary sits here rather than on GetDeviceService so that cache hits and id-filter
+rejections never take a connection.
+*/
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(prefix = "devices", name = "read-adaptor", havingValue = "jpa", matchIfMissing = true)
+@Profile("!reactive")
+public class JpaDeviceQueryRepository implements DeviceQueryRepository {
+
+    private final DeviceJpaRepository jpaRepository;
+
+    @Override
+    public Optional<Device> findById(UUID id) {
+        return jpaRepository.findById(id).map(DeviceEntityMapper.INSTANCE::toDomain);
+    }
+
+    @Override
+    public List<Device> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(jpaRepository.findAllById(ids));
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<Device> findAll() {
+        return toDomainList(jpaRepository.findAll());
+    }
+
+    @Override
+    public List<Device> findByBrand(String brand) {
+        return toDomainList(jpaRepository.findByBrand(brand));
+    }
+
+    @Override
+    public List<Device> findByState(DeviceState state) {
+        return toDomainList(jpaRepository.findByState(state));
+    }
+
+    @Override
+    public List<Device> findPage(DeviceCursor after, int limit) {
+        List<DeviceEntity> entities = after == null
+                ? jpaRepository.findFirstPage(Limit.of(limit))
+                : jpaRepository.findPageAfter(after.creationTime(), after.id(), Limit.of(limit));
+        return toDomainList(entities);
+    }
+
+    @Override
+    public List<Device> findPageByBrand(String brand, DeviceCursor after, int limit) {
+        List<DeviceEntity> entities = after == null
+                ? jpaRepository.findFirstPageByBrand(brand, Limit.of(limit))
+                : jpaRepository.findPageByBrandAfter(brand, after.creationTime(), after.id(), Limit.of(limit));
+        return toDomainList(entities);
+    }
+
+    @Override
+    public List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit) {
+        List<DeviceEntity> entities = after == null
+                ? jpaRepository.findFirstPageByState(state, Limit.of(limit))
+                : jpaRepository.findPageByStateAfter(state, after.creationTime(), after.id(), Limit.of(limit));
+        return toDomainList(entities);
+    }
+
+    @Override
+    public List<Device> search(DeviceSearch search, DeviceCursor after, int limit) {
+        return toDomainList(jpaRepository.search(search, after, limit));
+    }
+
+    public List<Device> toDomainList(List<DeviceEntity> entities) {
+        if (entities == null) {
+            return List.of();
+        }
+        return DeviceEntityMapper.INSTANCE.toDomainList(entities);
+    }
+}
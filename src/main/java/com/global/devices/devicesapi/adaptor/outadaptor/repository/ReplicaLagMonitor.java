@@ -0,0 +1,99 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+Polls the replica for its replay lag. The replica counts as usable only while the last check
+succeeded and the lag was within maxLag; until the first check, and whenever the replica cannot
+be reached, scans go to the primary. A replica that has replayed everything it received is
+caught up even when the primary has been idle for a while, and a server that is not in recovery
+(a plain second database) has no lag at all.
+Checked every interval only, so the tolerance is kept on average, not for every single read.
+*/
+
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    static final String THREAD_NAME = "devices-replica-lag";
+    static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END""";
+
+    private final JdbcTemplate replica;
+    private final double maxLagSeconds;
+    private final Duration interval;
+
+    // NaN while unknown
+    private volatile double lagSeconds = Double.NaN;
+    private volatile ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration interval, MeterRegistry meterRegistry) {
+        this(new JdbcTemplate(replica), maxLag, interval, meterRegistry);
+    }
+
+    ReplicaLagMonitor(JdbcTemplate replica, Duration maxLag, Duration interval, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toNanos() / 1e9;
+        this.interval = interval;
+        Gauge.builder("devices.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replay lag of the read replica at the last check, NaN when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag <= maxLagSeconds;
+    }
+
+    void check() {
+        boolean wasUsable = isReplicaUsable();
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag == null ? Double.NaN : lag;
+        } catch (RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            if (wasUsable) {
+                log.warn("Read replica unreachable, scans go to the primary: {}", ex.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != isReplicaUsable()) {
+            log.info("Read replica {} (lag {}s, tolerance {}s)", isReplicaUsable() ? "back in use" : "lagging, scans go to the primary",
+                    lagSeconds, maxLagSeconds);
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(THREAD_NAME).daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
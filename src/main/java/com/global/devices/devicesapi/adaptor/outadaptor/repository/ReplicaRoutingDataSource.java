@@ -0,0 +1,56 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/*
+Chooses the pool per connection: the replica for reads the adaptor marked with
+ReadRouting.preferReplica() while the replica is usable (within its lag tolerance), the primary
+for everything else. Meant to sit behind a LazyConnectionDataSourceProxy, so the choice is made
+at the first statement, inside the adaptor's scope, and not when a transaction begins.
+A transaction keeps the connection it started with, so reads inside a write stay on the primary.
+*/
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaUsable;
+    private final Counter replicaReads;
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable,
+                                    MeterRegistry meterRegistry) {
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        this.replicaReads = Counter.builder("devices.replica.reads")
+                .description("Connections for replica-eligible reads served by the replica")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryFallbacks = Counter.builder("devices.replica.reads")
+                .description("Connections for replica-eligible reads served by the primary")
+                .tag("target", "primary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!ReadRouting.isReplicaPreferred()) {
+            return Target.PRIMARY;
+        }
+        if (replicaUsable.getAsBoolean()) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryFallbacks.increment();
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,26 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.config.DeviceMapperConfig;
+import com.global.devices.devicesapi.domain.model.Device;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/*
+Device <-> DeviceEntity, generated at compile time.
+List mapping presizes the result to the input size.
+*/
+
+@Mapper(config = DeviceMapperConfig.class)
+public interface DeviceEntityMapper {
+
+    DeviceEntityMapper INSTANCE = Mappers.getMapper(DeviceEntityMapper.class);
+
+    Device toDomain(DeviceEntity entity);
+
+    List<Device> toDomainList(List<DeviceEntity> entities);
+
+    DeviceEntity toEntity(Device device);
+}
@@ -0,0 +1,30 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+Single-row counter bumped in the same transaction as every device write.
+Collection ETags are derived from it, so list caches stay valid across nodes.
+*/
+
+@Data
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "device_change_sequence")
+public class DeviceChangeSequenceEntity {
+
+    public static final short DEVICES = 1;
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private Long sequenceValue;
+}
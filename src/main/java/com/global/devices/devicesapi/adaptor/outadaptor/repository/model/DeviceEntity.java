@@ -4,6 +4,7 @@ import com.global.devices.devicesapi.domain.model.DeviceState;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -14,8 +15,13 @@ import java.util.UUID;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "device")
-public class DeviceEntity {
+@Table(name = "device", indexes = {
+        @Index(name = "idx_device_creation_time_id", columnList = "creation_time, id"),
+        @Index(name = "idx_device_brand_creation_time_id", columnList = "brand, creation_time, id"),
+        @Index(name = "idx_device_state_creation_time_id", columnList = "state, creation_time, id"),
+        @Index(name = "idx_device_brand_state_creation_time_id", columnList = "brand, state, creation_time, id")
+})
+public class DeviceEntity implements Persistable<UUID> {
     @Id
     @Column(columnDefinition = "uuid")
     private UUID id;
@@ -34,4 +40,18 @@ public class DeviceEntity {
     @Column(nullable = false, updatable = false)
     private Instant creationTime;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    /*
+    The id is assigned by Device before the first save, so Spring Data cannot tell a new
+    entity from its id and would merge (SELECT then INSERT). A device that has never been
+    persisted has no version yet, which makes save() persist it with a single INSERT;
+    loaded and detached entities carry a version and are still merged.
+    */
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
 }
@@ -0,0 +1,202 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/*
+Bounded cache of Device snapshots keyed by id.
+Caffeine uses W-TinyLFU, so a one-off scan of cold ids does not push the hot set out.
+Hit, miss and eviction counters are published as cache.* meters with cache=devices.
+Ids recently looked up and not found are remembered for a few seconds in a second,
+small cache (cache=devices-absent) so repeated probes of unknown ids skip the database.
+Misses go through a SingleFlight rather than Caffeine's compute, which would hold a hash-bin
+lock for the whole database read and stall unrelated ids sharing the bin.
+*/
+
+@Component
+@Profile("!reactive")
+public class DeviceCache {
+
+    static final String CACHE_NAME = "devices";
+    static final String ABSENT_CACHE_NAME = "devices-absent";
+
+    private final boolean enabled;
+    private final Cache<UUID, Device> cache;
+    private final Cache<UUID, Boolean> absent;
+    private final SingleFlight<UUID, Optional<Device>> loads;
+    /*
+    One token per id being loaded. A put or eviction of that id removes it, and a load only
+    stores its result if it can still take its own token back, atomically with the store, so
+    a write to the id at any point after the load began keeps the (possibly stale) result out.
+    Writes to other ids do not affect the load.
+    */
+    private final ConcurrentMap<UUID, Object> loadTokens = new ConcurrentHashMap<>();
+
+    public DeviceCache(DeviceCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.absent = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeMaximumSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, absent, ABSENT_CACHE_NAME);
+        Counter collapsed = Counter.builder("devices.cache.load.collapsed")
+                .description("Lookups that waited on an identical in-flight load instead of querying")
+                .register(meterRegistry);
+        this.loads = new SingleFlight<>(collapsed::increment);
+    }
+
+    /*
+    Returns the cached device or loads it. Absent devices are remembered for negativeTtl only.
+    Concurrent loads of the same id are collapsed into one call to the loader, also for
+    absent devices and when caching is disabled.
+    */
+    public Optional<Device> get(UUID id, Function<UUID, Optional<Device>> loader) {
+        if (enabled) {
+            Device cached = cache.getIfPresent(id);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            if (absent.getIfPresent(id) != null) {
+                return Optional.empty();
+            }
+        }
+        if (!enabled) {
+            return loads.execute(id, loader);
+        }
+        return loads.execute(id, key -> {
+            Object token = beginLoad(key);
+            try {
+                Optional<Device> loaded = loader.apply(key);
+                store(key, token, loaded);
+                return loaded;
+            } finally {
+                loadTokens.remove(key, token);
+            }
+        });
+    }
+
+    /*
+    Bulk variant of get: cached devices are served as is and all misses go to the loader in
+    a single call. Ids the loader does not return are left out of the result and remembered
+    as absent like in get. As in get, an id is not stored if it was put or evicted meanwhile.
+    */
+    public Map<UUID, Device> getAll(Collection<UUID> ids, Function<Set<UUID>, Map<UUID, Device>> loader) {
+        if (!enabled) {
+            return loader.apply(new HashSet<>(ids));
+        }
+        Set<UUID> candidates = new HashSet<>(ids);
+        candidates.removeAll(absent.getAllPresent(candidates).keySet());
+        Map<UUID, Device> found = new HashMap<>(cache.getAllPresent(candidates));
+        Set<UUID> missing = new HashSet<>(candidates);
+        missing.removeAll(found.keySet());
+        if (missing.isEmpty()) {
+            return found;
+        }
+        Map<UUID, Object> tokens = new HashMap<>();
+        missing.forEach(id -> tokens.put(id, beginLoad(id)));
+        try {
+            Map<UUID, Device> loaded = loader.apply(missing);
+            tokens.forEach((id, token) -> store(id, token, Optional.ofNullable(loaded.get(id))));
+            found.putAll(loaded);
+            return found;
+        } finally {
+            tokens.forEach(loadTokens::remove);
+        }
+    }
+
+    Object beginLoad(UUID id) {
+        Object token = new Object();
+        loadTokens.put(id, token);
+        return token;
+    }
+
+    /*
+    Runs inside the entry's compute so it cannot interleave with put or evict of the same id:
+    those drop the token first and only then touch the entry. A found device goes through the
+    same version check as put.
+    */
+    void store(UUID id, Object token, Optional<Device> loaded) {
+        if (loaded.isPresent()) {
+            cache.asMap().compute(id, (key, cached) -> {
+                if (!loadTokens.remove(key, token)) {
+                    return cached;
+                }
+                return cached == null ? loaded.get() : newer(cached, loaded.get());
+            });
+        } else {
+            absent.asMap().compute(id, (key, marker) -> loadTokens.remove(key, token) ? Boolean.TRUE : marker);
+        }
+    }
+
+    public Optional<Device> getIfPresent(UUID id) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(id)) : Optional.empty();
+    }
+
+    /*
+    Stores a device returned by a write. Writes to the same id can finish out of order, so a
+    snapshot older than the cached one is dropped; when either version is unknown the entry is
+    evicted rather than guessed.
+    */
+    public void put(Device device) {
+        if (enabled) {
+            loadTokens.remove(device.getId());
+            absent.invalidate(device.getId());
+            cache.asMap().merge(device.getId(), device, DeviceCache::newer);
+        }
+    }
+
+    private static Device newer(Device cached, Device written) {
+        if (cached.getVersion() == null || written.getVersion() == null) {
+            return null;
+        }
+        return written.getVersion() >= cached.getVersion() ? written : cached;
+    }
+
+    public void evict(UUID id) {
+        loadTokens.remove(id);
+        loads.forget(id);
+        absent.invalidate(id);
+        cache.invalidate(id);
+    }
+
+    public void evictAll() {
+        loadTokens.clear();
+        loads.forgetAll();
+        absent.invalidateAll();
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,143 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceIdFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Membership filter over every device id. mightContain == false means this node has not heard
+of the id; as other nodes' creates arrive asynchronously, callers confirm such a miss with a
+cheap existence check rather than answering it outright. Until the first build completes,
+after reset() and when disabled, every id "might" exist and lookups pass through.
+
+Ids are added on create (by the wrapper) and on invalidation messages from other nodes.
+Deletes cannot be removed from a Bloom filter; they drop out at the next periodic rebuild.
+Adds made while a rebuild is streaming go to both filters so none are lost in the swap.
+*/
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class DeviceIdFilter implements SmartLifecycle {
+
+    static final String THREAD_NAME = "devices-id-filter";
+
+    private final DeviceIdFilterProperties properties;
+    private final DeviceRepositoryPort repositoryPort;
+    private final Counter rejected;
+    private final AtomicLong lastBuildSize = new AtomicLong();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private volatile ScheduledExecutorService scheduler;
+
+    public DeviceIdFilter(DeviceIdFilterProperties properties,
+                          DeviceRepositoryPort repositoryPort,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.repositoryPort = repositoryPort;
+        this.rejected = Counter.builder("devices.id.filter.rejected")
+                .description("Lookups of ids unknown to the filter, checked for existence instead of loaded")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(UUID id) {
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(id)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void add(UUID id) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.add(id);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(id);
+        }
+    }
+
+    public void addAll(Collection<UUID> ids) {
+        ids.forEach(this::add);
+    }
+
+    // Stops trusting the filter (e.g. invalidation messages may have been missed) until it is rebuilt
+    public void reset() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        current = null;
+        ScheduledExecutorService executor = scheduler;
+        if (executor != null) {
+            executor.execute(this::rebuildQuietly);
+        }
+    }
+
+    void rebuild() {
+        BloomFilter next = BloomFilter.create(
+                Math.max(properties.getExpectedInsertions(), 2 * lastBuildSize.get()),
+                properties.getFalsePositiveRate());
+        // Published before streaming so ids created meanwhile are added to both filters
+        building = next;
+        // From the primary: an id missing on a lagging replica would be answered as not found until the next rebuild
+        try (var primary = ReadRouting.requirePrimary()) {
+            AtomicLong count = new AtomicLong();
+            repositoryPort.streamAll(device -> {
+                next.add(device.getId());
+                count.incrementAndGet();
+            });
+            lastBuildSize.set(count.get());
+            current = next;
+            log.info("Device id filter rebuilt with {} ids ({} bits)", count.get(), next.bitCount());
+        } finally {
+            building = null;
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Device id filter rebuild failed, lookups pass through until the next one: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(THREAD_NAME).daemon(true).factory());
+        long interval = properties.getRebuildInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceLookupBatchingProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+DataLoader-style coalescing of findById calls. The first lookup of a batch opens a window;
+every lookup arriving before it closes (or until maxBatchSize) rides along, and the whole
+batch is answered by one findAllByIds query. Callers block on their own future only.
+One dispatcher thread assembles batches, the queries themselves run on virtual threads
+so a slow batch never holds up the next one. At most maxConcurrentBatches run at a time, so
+batching never asks for more connections than the pool has; while all are busy the dispatcher
+waits and lookups keep piling into the next, larger batch.
+*/
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "devices.lookup-batching", name = "enabled", havingValue = "true")
+@Profile("!reactive")
+public class DeviceLookupBatcher implements SmartLifecycle, DisposableBean {
+
+    static final String THREAD_NAME = "devices-lookup-batcher";
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private record PendingLookup(UUID id, CompletableFuture<Optional<Device>> result, long enqueuedAt) {
+    }
+
+    private final DeviceRepositoryPort repositoryPort;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+
+    private volatile boolean running;
+    private volatile Thread dispatcher;
+
+    public DeviceLookupBatcher(DeviceLookupBatchingProperties properties,
+                               DeviceRepositoryPort repositoryPort,
+                               MeterRegistry meterRegistry) {
+        this.repositoryPort = repositoryPort;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.inFlight = new Semaphore(properties.getMaxConcurrentBatches());
+        this.batchSize = DistributionSummary.builder("devices.lookup.batch.size")
+                .description("Lookups answered by one multi-id query")
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder("devices.lookup.batch.queue.delay")
+                .description("Time a lookup waited for its batch to be sent")
+                .register(meterRegistry);
+    }
+
+    public Optional<Device> findById(UUID id) {
+        if (!running) {
+            return repositoryPort.findById(id);
+        }
+        var pending = new PendingLookup(id, new CompletableFuture<>(), System.nanoTime());
+        queue.add(pending);
+        if (!running) {
+            // Stopped while enqueueing: the dispatcher may already have done its final drain
+            drainAndExecute();
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon(true)
+                .start(this::dispatchLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = dispatcher;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // After stop(): lets the batches still running answer their callers before the threads go away
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Batched device lookups still running after {}", SHUTDOWN_TIMEOUT);
+            executor.shutdownNow();
+        }
+    }
+
+    private void dispatchLoop() {
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingLookup first = queue.take();
+                batch.add(first);
+                long deadline = first.enqueuedAt() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingLookup next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                inFlight.acquire();
+            } catch (InterruptedException ex) {
+                // Stopping; the batch being assembled is answered below with the rest of the queue
+                break;
+            }
+            submit(batch);
+            batch = new ArrayList<>(maxBatchSize);
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+        drainAndExecute();
+    }
+
+    private void submit(List<PendingLookup> batch) {
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.release();
+            execute(batch);
+        }
+    }
+
+    private void drainAndExecute() {
+        List<PendingLookup> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            execute(leftovers);
+        }
+    }
+
+    void execute(List<PendingLookup> batch) {
+        long now = System.nanoTime();
+        batch.forEach(pending -> queueDelay.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+        try {
+            Set<UUID> ids = batch.stream().map(PendingLookup::id).collect(Collectors.toSet());
+            Map<UUID, Device> found = repositoryPort.findAllByIds(ids).stream()
+                    .collect(Collectors.toMap(Device::getId, Function.identity()));
+            batch.forEach(pending -> pending.result().complete(Optional.ofNullable(found.get(pending.id()))));
+        } catch (RuntimeException ex) {
+            log.warn("Batched device lookup of {} ids failed: {}", batch.size(), ex.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        }
+    }
+}
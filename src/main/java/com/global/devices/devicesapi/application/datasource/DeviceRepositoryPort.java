@@ -1,18 +1,49 @@
 package com.global.devices.devicesapi.application.datasource;
 
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 @Service
 public interface DeviceRepositoryPort {
     Device save(Device device);
+    // Inserts new devices with JDBC batching, returns them as persisted
+    List<Device> saveAll(List<Device> devices);
     Optional<Device> findById(UUID id);
+    // One query for all ids; unknown ids are simply absent from the result, order is not guaranteed
+    List<Device> findAllByIds(Collection<UUID> ids);
+    Optional<Long> findVersionById(UUID id);
     List<Device> findAll();
+    // Pushes every device to the consumer as it is read, without building a list
+    void streamAll(Consumer<Device> consumer);
     List<Device> findByBrand(String brand);
     List<Device> findByState(DeviceState state);
+    // Keyset pages ordered by (creationTime, id); after == null means the first page
+    List<Device> findPage(DeviceCursor after, int limit);
+    List<Device> findPageByBrand(String brand, DeviceCursor after, int limit);
+    List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit);
+    // Any combination of the search filters, keyset paged in the search's order
+    List<Device> search(DeviceSearch search, DeviceCursor after, int limit);
     void deleteById(UUID id);
+    // Single-statement writes guarded by state <> IN_USE; empty / false when no row matched
+    // Null name, brand or state keep the stored value
+    Optional<Device> updateIfNotInUse(UUID id, String name, String brand, DeviceState state);
+    // Overwrites all three columns
+    Optional<Device> replaceIfNotInUse(UUID id, String name, String brand, DeviceState state);
+    boolean deleteIfNotInUse(UUID id);
+    // Set-based variant of updateIfNotInUse for the state column only
+    DeviceStateChange changeStateIfNotInUse(Collection<UUID> ids, DeviceState state);
+    boolean existsById(UUID id);
+    long currentChangeSequence();
+    // Runs the reads in one read-only transaction on one connection and snapshot (replica when allowed)
+    <T> T readSnapshot(Supplier<T> reads);
 }
\ No newline at end of file
@@ -1,29 +1,100 @@
 package com.global.devices.devicesapi.application.datasource;
 
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class DeviceRepositoryWrapper {
     private final DeviceRepositoryPort deviceRepositoryPort;
+    private final DeviceCache deviceCache;
+    private final DeviceIdFilter deviceIdFilter;
+    // Present only with devices.lookup-batching.enabled=true
+    private final Optional<DeviceLookupBatcher> lookupBatcher;
 
     public Device saveDevice(Device device){
-        return deviceRepositoryPort.save(device); // here we can have domain events and publish it
+        Device saved = deviceRepositoryPort.save(device); // here we can have domain events and publish it
+        deviceCache.put(saved);
+        deviceIdFilter.add(saved.getId());
+        return saved;
+    }
+
+    // Not cached: a provisioning run would otherwise push the hot set out for devices nobody reads yet
+    public List<Device> saveAllDevices(List<Device> devices){
+        List<Device> saved = deviceRepositoryPort.saveAll(devices);
+        saved.forEach(device -> deviceIdFilter.add(device.getId()));
+        return saved;
     }
 
     public List<Device> getAllDevices(){
         return deviceRepositoryPort.findAll();
     }
 
+    public void streamAllDevices(Consumer<Device> consumer){
+        deviceRepositoryPort.streamAll(consumer);
+    }
+
+    /*
+    Other nodes' creates reach the id filter asynchronously, so a filter miss is only a hint:
+    it is confirmed with an index-only existence check instead of a full load, and the answer
+    lands in the negative cache like any other miss. A device the filter did not know yet is
+    loaded and added to it.
+    */
     public Optional<Device> findById(UUID deviceId){
-        return deviceRepositoryPort.findById(deviceId);
+        if (deviceIdFilter.mightContain(deviceId)) {
+            return deviceCache.get(deviceId, this::loadById);
+        }
+        return deviceCache.get(deviceId, this::loadIfExists);
+    }
+
+    private Optional<Device> loadIfExists(UUID deviceId){
+        if (!deviceRepositoryPort.existsById(deviceId)) {
+            return Optional.empty();
+        }
+        deviceIdFilter.add(deviceId);
+        return loadById(deviceId);
+    }
+
+    private Optional<Device> loadById(UUID deviceId){
+        return lookupBatcher.isPresent()
+                ? lookupBatcher.get().findById(deviceId)
+                : deviceRepositoryPort.findById(deviceId);
+    }
+
+    // Misses all go to one query anyway, so the id filter is not consulted; ids found are added to it
+    public Map<UUID, Device> findAllByIds(Collection<UUID> deviceIds){
+        return deviceCache.getAll(deviceIds, missing -> {
+            Map<UUID, Device> found = deviceRepositoryPort.findAllByIds(missing).stream()
+                    .collect(Collectors.toMap(Device::getId, Function.identity()));
+            deviceIdFilter.addAll(found.keySet());
+            return found;
+        });
+    }
+
+    // The version query is as cheap as an existence check, so the id filter is not consulted
+    public Optional<Long> findVersionById(UUID deviceId){
+        Optional<Device> cached = deviceCache.getIfPresent(deviceId);
+        if (cached.isPresent()) {
+            return Optional.ofNullable(cached.get().getVersion());
+        }
+        return deviceRepositoryPort.findVersionById(deviceId);
     }
 
     public List<Device> findByBrand(String brand){
@@ -34,7 +105,66 @@ public class DeviceRepositoryWrapper {
         return deviceRepositoryPort.findByState(state);
     }
 
+    public List<Device> findPage(DeviceCursor after, int limit){
+        return deviceRepositoryPort.findPage(after, limit);
+    }
+
+    public List<Device> findPageByBrand(String brand, DeviceCursor after, int limit){
+        return deviceRepositoryPort.findPageByBrand(brand, after, limit);
+    }
+
+    public List<Device> findPageByState(DeviceState state, DeviceCursor after, int limit){
+        return deviceRepositoryPort.findPageByState(state, after, limit);
+    }
+
+    public List<Device> search(DeviceSearch search, DeviceCursor after, int limit){
+        return deviceRepositoryPort.search(search, after, limit);
+    }
+
+    public long currentChangeSequence(){
+        return deviceRepositoryPort.currentChangeSequence();
+    }
+
+    public <T> T readSnapshot(Supplier<T> reads){
+        return deviceRepositoryPort.readSnapshot(reads);
+    }
+
+    /*
+    Null name, brand or state keep the stored value. On a miss the entry is evicted as well:
+    the cached copy may be the stale reason the caller expected the write to succeed.
+    */
+    public Optional<Device> updateIfNotInUse(UUID deviceId, String name, String brand, DeviceState state){
+        return cached(deviceId, deviceRepositoryPort.updateIfNotInUse(deviceId, name, brand, state));
+    }
+
+    // Like updateIfNotInUse, but every field is written as given
+    public Optional<Device> replaceIfNotInUse(UUID deviceId, String name, String brand, DeviceState state){
+        return cached(deviceId, deviceRepositoryPort.replaceIfNotInUse(deviceId, name, brand, state));
+    }
+
+    private Optional<Device> cached(UUID deviceId, Optional<Device> updated) {
+        updated.ifPresentOrElse(deviceCache::put, () -> deviceCache.evict(deviceId));
+        return updated;
+    }
+
+    public boolean deleteIfNotInUse(UUID deviceId){
+        boolean deleted = deviceRepositoryPort.deleteIfNotInUse(deviceId);
+        deviceCache.evict(deviceId);
+        return deleted;
+    }
+
+    public DeviceStateChange changeStateIfNotInUse(Collection<UUID> deviceIds, DeviceState state){
+        DeviceStateChange outcome = deviceRepositoryPort.changeStateIfNotInUse(deviceIds, state);
+        deviceIds.forEach(deviceCache::evict);
+        return outcome;
+    }
+
+    public boolean existsById(UUID deviceId){
+        return deviceRepositoryPort.existsById(deviceId);
+    }
+
     public void deleteDeviceById(UUID deviceId){
         deviceRepositoryPort.deleteById(deviceId);
+        deviceCache.evict(deviceId);
     }
 }
@@ -0,0 +1,67 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import java.util.concurrent.Callable;
+
+/*
+Per-thread routing hints for the read replica (devices.replica.*). The read adaptor marks the
+scans that may be served by the replica with preferReplica(); requirePrimary() overrides it for
+callers that must see their own or the latest writes: a client inside its read-your-writes
+window, or a reader whose result outlives the request (cache fills, the id filter), where a row
+missing on a lagging replica would stay missing long after the lag is gone.
+Both return a scope to close; scopes nest and restore the previous hint. The hints are
+thread-local, so work handed to another thread takes them along through carryOver().
+Without a replica configured the hints have no effect.
+*/
+
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA_PREFERRED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private static final Scope NONE = () -> {
+    };
+
+    private ReadRouting() {
+    }
+
+    public static Scope preferReplica() {
+        return enter(REPLICA_PREFERRED);
+    }
+
+    public static Scope requirePrimary() {
+        return enter(PRIMARY_REQUIRED);
+    }
+
+    public static boolean isReplicaPreferred() {
+        return REPLICA_PREFERRED.get() != null && PRIMARY_REQUIRED.get() == null;
+    }
+
+    public static <T> Callable<T> carryOver(Callable<T> task) {
+        boolean replicaPreferred = REPLICA_PREFERRED.get() != null;
+        boolean primaryRequired = PRIMARY_REQUIRED.get() != null;
+        return () -> {
+            try (Scope replica = replicaPreferred ? preferReplica() : NONE;
+                 Scope primary = primaryRequired ? requirePrimary() : NONE) {
+                return task.call();
+            }
+        };
+    }
+
+    private static Scope enter(ThreadLocal<Boolean> hint) {
+        Boolean previous = hint.get();
+        hint.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                hint.remove();
+            } else {
+                hint.set(previous);
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
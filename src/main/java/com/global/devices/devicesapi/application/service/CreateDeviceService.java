@@ -6,10 +6,14 @@ import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseReques
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 import com.global.devices.devicesapi.domain.model.Device;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class CreateDeviceService implements CreateDeviceUseCase {
 
     private final DeviceRepositoryWrapper repository;
@@ -19,4 +23,14 @@ public class CreateDeviceService implements CreateDeviceUseCase {
         Device device = new Device(request.getName(), request.getBrand(), request.getState());
          return repository.saveDevice(device).toUseCaseResponse();
     }
+
+    @Override
+    public List<DeviceUseCaseResponse> createAll(List<DeviceUseCaseRequest> requests) {
+        List<Device> devices = requests.stream()
+                .map(request -> new Device(request.getName(), request.getBrand(), request.getState()))
+                .toList();
+        return repository.saveAllDevices(devices).stream()
+                .map(Device::toUseCaseResponse)
+                .toList();
+    }
 }
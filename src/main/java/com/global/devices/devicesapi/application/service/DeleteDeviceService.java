@@ -3,15 +3,16 @@ package com.global.devices.devicesapi.application.service;
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
 import com.global.devices.devicesapi.application.usecase.DeleteDeviceUseCase;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
-import com.global.devices.devicesapi.domain.model.Device;
 import com.global.devices.devicesapi.domain.validation.DeviceValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class DeleteDeviceService implements DeleteDeviceUseCase {
 
     private final DeviceRepositoryWrapper repository;
@@ -20,9 +21,13 @@ public class DeleteDeviceService implements DeleteDeviceUseCase {
 
     @Override
     public void deleteDevice(UUID deviceId) {
-        Device Device   =  repository.findById(deviceId)
-                .orElseThrow(() -> new DeviceNotFoundException("Device with id " + deviceId + " not found"));
-        deviceValidator.validateStatus(Device);
-        repository.deleteDeviceById(deviceId);
+        if (repository.deleteIfNotInUse(deviceId)) {
+            return;
+        }
+        // Nothing deleted: the device is either missing or in use, only this path pays for the lookup
+        if (!repository.existsById(deviceId)) {
+            throw DeviceNotFoundException.forId(deviceId);
+        }
+        throw deviceValidator.inUse(deviceId);
     }
 }
@@ -2,20 +2,31 @@ package com.global.devices.devicesapi.application.service;
 
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
 import com.global.devices.devicesapi.application.usecase.GetDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.application.usecase.mapper.DeviceUseCaseMapper;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class GetDeviceService implements GetDeviceUseCase {
 
     private final DeviceRepositoryWrapper repository;
@@ -26,16 +37,46 @@ public class GetDeviceService implements GetDeviceUseCase {
          return toUseCaseResponseList(repository.getAllDevices());
     }
 
+    @Override
+    public void exportAll(Consumer<DeviceUseCaseResponse> consumer) {
+
+        repository.streamAllDevices(device -> consumer.accept(device.toUseCaseResponse()));
+    }
+
     @Override
     public DeviceUseCaseResponse findById(UUID id) {
 
         Optional<Device> device = repository.findById(id);
         if(device.isEmpty()){
-            throw new DeviceNotFoundException(("Device with id " + id + " not found"));
+            throw DeviceNotFoundException.forId(id);
         }
         return device.get().toUseCaseResponse();
     }
 
+    @Override
+    public DeviceBatch getByIds(List<UUID> ids) {
+        var requested = new LinkedHashSet<>(ids);
+        Map<UUID, Device> found = repository.findAllByIds(requested);
+
+        List<DeviceUseCaseResponse> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : requested) {
+            Device device = found.get(id);
+            if (device == null) {
+                missing.add(id);
+            } else {
+                items.add(device.toUseCaseResponse());
+            }
+        }
+        return new DeviceBatch(items, missing);
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+
+        return repository.findVersionById(id);
+    }
+
     @Override
     public List<DeviceUseCaseResponse> getByBrand(String brand) {
 
@@ -48,15 +89,57 @@ public class GetDeviceService implements GetDeviceUseCase {
         return toUseCaseResponseList(repository.findByState(deviceState));
     }
 
+    // One extra row is fetched to learn whether a next page exists
+    @Override
+    public DevicePage getPage(DeviceCursor after, int limit) {
+
+        return toPage(repository.findPage(after, limit + 1), limit);
+    }
+
+    @Override
+    public DevicePage getPageByBrand(String brand, DeviceCursor after, int limit) {
+
+        return toPage(repository.findPageByBrand(brand, after, limit + 1), limit);
+    }
+
+    @Override
+    public DevicePage getPageByState(DeviceState deviceState, DeviceCursor after, int limit) {
+
+        return toPage(repository.findPageByState(deviceState, after, limit + 1), limit);
+    }
+
+    @Override
+    public DevicePage search(DeviceSearch search, DeviceCursor after, int limit) {
+
+        return toPage(repository.search(search, after, limit + 1), limit);
+    }
+
+    private static DevicePage toPage(List<Device> devices, int limit) {
+        if (devices.size() <= limit) {
+            return new DevicePage(toUseCaseResponseList(devices), null);
+        }
+        List<Device> page = devices.subList(0, limit);
+        return new DevicePage(toUseCaseResponseList(page), DeviceCursor.of(page.get(limit - 1)));
+    }
+
+    @Override
+    public long getChangeSequence() {
+
+        return repository.currentChangeSequence();
+    }
+
+    @Override
+    public <T> T readSnapshot(Supplier<T> reads) {
+
+        return repository.readSnapshot(reads);
+    }
+
     public static List<DeviceUseCaseResponse> toUseCaseResponseList(List<Device> devices) {
         if (devices == null || devices.isEmpty()) {
             return List.of();
         }
 
-        return devices.stream()
-                // Use the method already defined inside the Device class
-                .map(Device::toUseCaseResponse)
-                .collect(Collectors.toList());
+        return DeviceUseCaseMapper.INSTANCE.toUseCaseResponseList(devices);
     }
 
 
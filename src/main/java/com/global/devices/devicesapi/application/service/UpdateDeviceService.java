@@ -2,73 +2,106 @@ package com.global.devices.devicesapi.application.service;
 
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
 import com.global.devices.devicesapi.application.usecase.UpdateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
 import com.global.devices.devicesapi.domain.model.Device;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import com.global.devices.devicesapi.domain.validation.DeviceValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class UpdateDeviceService implements UpdateDeviceUseCase {
 
     private final DeviceRepositoryWrapper repository;
     private  final DeviceValidator deviceValidator;
     @Override
     public DeviceUseCaseResponse update(UUID deviceId, DeviceUseCaseRequest request) {
-        Device existingDevice = repository.findById(deviceId)
-                .orElseThrow(() -> new DeviceNotFoundException(("Device with id " + deviceId + " not found")));
-
-        deviceValidator.validateStatus(existingDevice);
-        Device updatedDevice = new Device(
-                deviceId,
-                request.getName(),
-                request.getBrand(),
-                request.getState(),
-                existingDevice.getCreationTime()
-        );
-        return repository.saveDevice(updatedDevice).toUseCaseResponse();
+        return repository.replaceIfNotInUse(deviceId, request.getName(), request.getBrand(), request.getState())
+                .map(Device::toUseCaseResponse)
+                .orElseThrow(() -> rejection(deviceId));
 
     }
 
     @Override
     public DeviceUseCaseResponse patch(UUID deviceId, Map<String, Object> updatedFields) {
-        Device existingDevice = repository.findById(deviceId)
-                .orElseThrow(() -> new DeviceNotFoundException(("Device with id " + deviceId + " not found")));
-
-        deviceValidator.validateStatus(existingDevice);
-
-        String name = existingDevice.getName();
-        String brand = existingDevice.getBrand();
-        DeviceState state = existingDevice.getState();
-        Instant creationTime = existingDevice.getCreationTime();
-
-        if (updatedFields.containsKey("name")) {
-            name = (String) updatedFields.get("name");
-        }
-        if (updatedFields.containsKey("brand")) {
-            brand = (String) updatedFields.get("brand");
+        InvalidOperationException invalid = invalidPatch(deviceId, updatedFields);
+        if (invalid != null) {
+            // As before the single-statement update: a missing or in-use device is reported first
+            Device existing = repository.findById(deviceId).orElseThrow(() -> DeviceNotFoundException.forId(deviceId));
+            deviceValidator.validateStatus(existing);
+            throw invalid;
         }
+
+        // Fields left out of the patch are passed as null and keep their stored value
+        String name = (String) updatedFields.get("name");
+        String brand = (String) updatedFields.get("brand");
+        DeviceState state = null;
         if (updatedFields.containsKey("state")) {
             state = DeviceState.valueOf((String) updatedFields.get("state"));
         }
-        if (updatedFields.containsKey("creationTime")) {
-            throw new InvalidOperationException("Device with id "+ existingDevice.getId()+" creationTime can not be updated");
 
-        }
+        return repository.updateIfNotInUse(deviceId, name, brand, state)
+                .map(Device::toUseCaseResponse)
+                .orElseThrow(() -> rejection(deviceId));
+
+    }
 
-        Device updatedDevice = new Device(existingDevice.getId(), name, brand, state, creationTime);
-        return repository.saveDevice(updatedDevice).toUseCaseResponse();
+    @Override
+    public BulkStateChangeResult changeState(List<UUID> deviceIds, DeviceState state) {
+        // Duplicates are reported once, in the position of their first occurrence
+        var requested = new LinkedHashSet<>(deviceIds);
+        DeviceStateChange outcome = repository.changeStateIfNotInUse(requested, state);
 
+        List<UUID> changed = new ArrayList<>();
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> rejected = new ArrayList<>();
+        for (UUID id : requested) {
+            if (outcome.changed().contains(id)) {
+                changed.add(id);
+            } else if (outcome.rejected().contains(id)) {
+                rejected.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BulkStateChangeResult(changed, missing, rejected);
     }
-}
 
+    /*
+    creationTime is immutable, and every other column is NOT NULL, so an explicit null cannot
+    clear a field; it is rejected rather than silently keeping the stored value.
+    */
+    private static InvalidOperationException invalidPatch(UUID deviceId, Map<String, Object> updatedFields) {
+        if (updatedFields.containsKey("creationTime")) {
+            return InvalidOperationException.creationTimeImmutable(deviceId);
+        }
+        for (String field : List.of("name", "brand", "state")) {
+            if (updatedFields.containsKey(field) && updatedFields.get(field) == null) {
+                return InvalidOperationException.fieldNotNullable(deviceId, field);
+            }
+        }
+        return null;
+    }
 
+    // No row was updated: the device is either missing or in use, only this path pays for the lookup
+    private RuntimeException rejection(UUID deviceId) {
+        if (!repository.existsById(deviceId)) {
+            return DeviceNotFoundException.forId(deviceId);
+        }
+        return deviceValidator.inUse(deviceId);
+    }
+}
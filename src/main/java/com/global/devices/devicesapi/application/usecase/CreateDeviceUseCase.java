@@ -4,6 +4,10 @@ package com.global.devices.devicesapi.application.usecase;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 
+import java.util.List;
+
 public interface CreateDeviceUseCase{
     DeviceUseCaseResponse create(DeviceUseCaseRequest request);
+    // Creates all devices in one transaction, responses are in request order
+    List<DeviceUseCaseResponse> createAll(List<DeviceUseCaseRequest> requests);
 }
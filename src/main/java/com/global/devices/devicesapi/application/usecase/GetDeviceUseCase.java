@@ -1,15 +1,32 @@
 package com.global.devices.devicesapi.application.usecase;
 
 
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public interface GetDeviceUseCase {
     List<DeviceUseCaseResponse> getAll();
+    void exportAll(Consumer<DeviceUseCaseResponse> consumer);
     DeviceUseCaseResponse findById(UUID deviceId);
+    Optional<Long> findVersion(UUID deviceId);
+    DeviceBatch getByIds(List<UUID> deviceIds);
     List<DeviceUseCaseResponse> getByBrand(String brand);
     List<DeviceUseCaseResponse> getByState(DeviceState deviceState);
+    DevicePage getPage(DeviceCursor after, int limit);
+    DevicePage getPageByBrand(String brand, DeviceCursor after, int limit);
+    DevicePage getPageByState(DeviceState deviceState, DeviceCursor after, int limit);
+    DevicePage search(DeviceSearch search, DeviceCursor after, int limit);
+    long getChangeSequence();
+    // Reads done inside see one consistent snapshot, e.g. a page and the change sequence that tags it
+    <T> T readSnapshot(Supplier<T> reads);
 }
@@ -1,13 +1,18 @@
 package com.global.devices.devicesapi.application.usecase;
 
 
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 
+import com.global.devices.devicesapi.domain.model.DeviceState;
+
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 public interface UpdateDeviceUseCase {
     DeviceUseCaseResponse update(UUID deviceId, DeviceUseCaseRequest request);
     DeviceUseCaseResponse patch(UUID deviceId, Map<String, Object> updatedFields);
+    BulkStateChangeResult changeState(List<UUID> deviceIds, DeviceState state);
 }
@@ -0,0 +1,8 @@
+package com.global.devices.devicesapi.application.usecase.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Each requested id appears in exactly one list, in request order
+public record BulkStateChangeResult(List<UUID> changed, List<UUID> missing, List<UUID> rejected) {
+}
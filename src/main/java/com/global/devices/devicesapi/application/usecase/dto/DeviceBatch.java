@@ -0,0 +1,8 @@
+package com.global.devices.devicesapi.application.usecase.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Found devices and unknown ids, both in request order
+public record DeviceBatch(List<DeviceUseCaseResponse> items, List<UUID> missing) {
+}
@@ -0,0 +1,9 @@
+package com.global.devices.devicesapi.application.usecase.dto;
+
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+
+import java.util.List;
+
+// next is null on the last page
+public record DevicePage(List<DeviceUseCaseResponse> items, DeviceCursor next) {
+}
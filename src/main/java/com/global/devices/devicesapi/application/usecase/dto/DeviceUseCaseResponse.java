@@ -18,4 +18,9 @@ public class DeviceUseCaseResponse {
     private String brand;
     private DeviceState state;
     private Instant creationTime;
+    private Long version;
+
+    public DeviceUseCaseResponse(UUID id, String name, String brand, DeviceState state, Instant creationTime) {
+        this(id, name, brand, state, creationTime, null);
+    }
 }
\ No newline at end of file
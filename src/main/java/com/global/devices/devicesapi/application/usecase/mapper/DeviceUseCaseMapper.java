@@ -0,0 +1,24 @@
+package com.global.devices.devicesapi.application.usecase.mapper;
+
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceMapperConfig;
+import com.global.devices.devicesapi.domain.model.Device;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/*
+Device -> DeviceUseCaseResponse, generated at compile time.
+List mapping presizes the result to the input size.
+*/
+
+@Mapper(config = DeviceMapperConfig.class)
+public interface DeviceUseCaseMapper {
+
+    DeviceUseCaseMapper INSTANCE = Mappers.getMapper(DeviceUseCaseMapper.class);
+
+    DeviceUseCaseResponse toUseCaseResponse(Device device);
+
+    List<DeviceUseCaseResponse> toUseCaseResponseList(List<Device> devices);
+}
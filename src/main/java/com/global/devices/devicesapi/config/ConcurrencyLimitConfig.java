@@ -0,0 +1,33 @@
+package com.global.devices.devicesapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+Puts ConcurrencyLimitFilter in front of the device endpoints only; actuator and API docs stay
+reachable while the API sheds load. Registered here rather than as a @Component so that
+@WebMvcTest slices are not limited.
+*/
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "devices.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            DeviceConcurrencyLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        var registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(properties, meterRegistry, objectMapper));
+        registration.addUrlPatterns("/devices-api/v1/devices", "/devices-api/v1/devices/*");
+        // Right behind load shedding, a rejected request should cost as little as possible
+        registration.setOrder(LoadSheddingConfig.ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,53 @@
+package com.global.devices.devicesapi.config;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/*
+Wraps the pooled DataSource in ConcurrencyLimitedDataSource when devices.jdbc.limit-concurrency
+is on (by default whenever spring.threads.virtual.enabled is). Boot unwraps DelegatingDataSource,
+so the Hikari metrics and health checks still see the pool. The permit meters are tagged with
+the Hikari pool name, or the bean name for a pool that has none yet.
+*/
+
+@Configuration
+@Profile("!reactive")
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "devices.jdbc", name = "limit-concurrency", havingValue = "true")
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DeviceJdbcProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The replica routing proxy only hands out connections of pools that are limited themselves
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                DeviceJdbcProperties jdbc = properties.getObject();
+                return new ConcurrencyLimitedDataSource(dataSource, poolName(dataSource, beanName),
+                        jdbc.getMaxConcurrency(), jdbc.getAcquireTimeout(), meterRegistry.getObject());
+            }
+        };
+    }
+
+    // Boot's own pool has no name until it starts, so that one is tagged with its bean name
+    private static String poolName(DataSource dataSource, String beanName) {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getPoolName() != null) {
+            return hikari.getPoolName();
+        }
+        return beanName;
+    }
+}
@@ -0,0 +1,16 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+Settings of bulk device writes (devices.bulk.*)
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.bulk")
+public class DeviceBulkProperties {
+
+    // Rows per JDBC batch; with reWriteBatchedInserts the driver sends each batch as multi-row INSERTs
+    private int chunkSize = 500;
+}
@@ -0,0 +1,46 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Settings of the in-process device cache (devices.cache.*)
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.cache")
+public class DeviceCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+    // Ids recently found missing are answered as absent for this long
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    private long negativeMaximumSize = 10_000;
+
+    private Invalidation invalidation = new Invalidation();
+
+    /*
+    Cross-node invalidation through Postgres LISTEN/NOTIFY (devices.cache.invalidation.*)
+    */
+    @Data
+    public static class Invalidation {
+
+        private boolean enabled = false;
+
+        private String channel = "device_invalidation";
+
+        private Duration pollTimeout = Duration.ofMillis(500);
+
+        private Duration reconnectBackoff = Duration.ofSeconds(1);
+
+        // A SELECT 1 on the LISTEN connection at this interval detects peers that vanished silently
+        private Duration livenessCheckInterval = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,34 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Adaptive limit on concurrent requests to the device endpoints (devices.concurrency-limit.*).
+Reads, writes and bulk calls each get their own limit, all tuned with these settings.
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.concurrency-limit")
+public class DeviceConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 5;
+
+    // Never above the request thread pool, or requests queue in Tomcat again
+    private int maxLimit = 200;
+
+    // How far the recent latency may rise above the long-term latency before the limit shrinks
+    private double tolerance = 2.0;
+
+    // Share of each newly computed limit taken over, 1.0 means no smoothing
+    private double smoothing = 0.2;
+
+    // Sent as Retry-After on rejected requests
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,18 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Settings of the NDJSON export (devices.export.*)
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.export")
+public class DeviceExportProperties {
+
+    // Async timeout of one export; replaces the container default (30s on Tomcat) for this route only
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,26 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Bloom filter over all device ids that turns lookups of unknown ids into an existence check (devices.id-filter.*).
+With more than one node it relies on devices.cache.invalidation to learn ids created elsewhere.
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.id-filter")
+public class DeviceIdFilterProperties {
+
+    private boolean enabled = false;
+
+    // Lower bound for the filter size; rebuilds grow it to twice the ids seen last time
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    // Deleted ids only leave the filter when it is rebuilt
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,24 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Bound on concurrent JDBC work in front of the connection pool (devices.jdbc.*).
+Meant for virtual threads, where no request thread pool limits how many callers reach the pool.
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.jdbc")
+public class DeviceJdbcProperties {
+
+    private boolean limitConcurrency = false;
+
+    // Callers holding a connection at once; keep it at or below the pool size
+    private int maxConcurrency = 10;
+
+    // How long a caller queues for a permit before failing with SQLTransientConnectionException
+    private Duration acquireTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,48 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Priority lanes in front of the device endpoints (devices.load-shedding.*). A lane's max-queue-time
+is both how long its requests may wait for a slot and the queueing delay, measured in its own or any
+more important lane, at which it stops admitting work; the short times of bulk and list calls make
+them the first to go.
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.load-shedding")
+public class DeviceLoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    // Queueing delay is the shortest wait seen over one interval, so a passing burst does not count
+    private Duration interval = Duration.ofMillis(100);
+
+    // Sent as Retry-After on shed requests
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Lane read = new Lane(100, 200, Duration.ofMillis(200));
+
+    private Lane write = new Lane(50, 50, Duration.ofMillis(100));
+
+    private Lane list = new Lane(20, 20, Duration.ofMillis(50));
+
+    private Lane bulk = new Lane(4, 4, Duration.ofMillis(20));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        private int maxConcurrency;
+
+        private int maxQueueSize;
+
+        private Duration maxQueueTime;
+    }
+}
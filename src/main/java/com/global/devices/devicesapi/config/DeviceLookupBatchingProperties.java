@@ -0,0 +1,26 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Coalescing of concurrent single-device lookups into multi-id queries (devices.lookup-batching.*)
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.lookup-batching")
+public class DeviceLookupBatchingProperties {
+
+    private boolean enabled = false;
+
+    // How long the first lookup of a batch waits for others to join
+    private Duration window = Duration.ofMillis(2);
+
+    // A batch is sent as soon as it holds this many lookups, even inside the window
+    private int maxBatchSize = 100;
+
+    // Batch queries running at once; each holds a connection, so keep it at or below the pool size
+    private int maxConcurrentBatches = 10;
+}
@@ -0,0 +1,18 @@
+package com.global.devices.devicesapi.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/*
+Shared settings of the generated (MapStruct) device mappers.
+Builders are disabled so targets are created through their constructor or setters
+directly, and a target property nobody maps fails the build instead of staying null.
+*/
+
+@MapperConfig(
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface DeviceMapperConfig {
+}
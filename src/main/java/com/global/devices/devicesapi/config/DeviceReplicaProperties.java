@@ -0,0 +1,44 @@
+package com.global.devices.devicesapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+Read replica for the list, search and export scans (devices.replica.*). The replica's own
+Hikari pool is tuned under devices.replica.hikari, like spring.datasource.hikari for the primary.
+*/
+
+@Data
+@ConfigurationProperties(prefix = "devices.replica")
+public class DeviceReplicaProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    // Scans go back to the primary while the replica is further behind than this, or its lag is unknown
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    private ReadYourWrites readYourWrites = new ReadYourWrites();
+
+    /*
+    Sticky primary after a write (devices.replica.read-your-writes.*): the writing client gets a
+    cookie, and its reads go to the primary until the window is over.
+    */
+    @Data
+    public static class ReadYourWrites {
+
+        private boolean enabled = true;
+
+        // Keep it above max-lag, so the replica has caught up by the time the client reads from it
+        private Duration window = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,33 @@
+package com.global.devices.devicesapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.LoadSheddingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/*
+Puts LoadSheddingFilter first in front of the device endpoints, ahead of the adaptive
+concurrency limit: the priority decision is taken before any per-lane capacity is spent.
+*/
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "devices.load-shedding", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            DeviceLoadSheddingProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        var registration = new FilterRegistrationBean<>(new LoadSheddingFilter(properties, meterRegistry, objectMapper));
+        registration.addUrlPatterns("/devices-api/v1/devices", "/devices-api/v1/devices/*");
+        registration.setOrder(ORDER);
+        return registration;
+    }
+}
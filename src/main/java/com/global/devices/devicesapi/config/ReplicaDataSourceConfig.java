@@ -0,0 +1,84 @@
+package com.global.devices.devicesapi.config;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.ReadYourWritesFilter;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ReplicaLagMonitor;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/*
+Two pools when devices.replica.enabled is on: the primary, still configured through
+spring.datasource.*, and the read replica from devices.replica.*. The DataSource everything else
+uses (JPA, JdbcTemplate, the transaction manager) routes between them per connection; Boot's own
+pool backs off because DataSources are defined here. Both pools are metered and health-checked
+by name, and each is wrapped by devices.jdbc.limit-concurrency on its own.
+*/
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "devices.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("devices-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("devices.replica.hikari")
+    public HikariDataSource replicaDataSource(DeviceReplicaProperties replica, DataSourceProperties primary) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName("devices-replica");
+        // Also keeps a plain second database from ever taking a write
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               DeviceReplicaProperties replica, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replica.getMaxLag(), replica.getLagCheckInterval(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor::isReplicaUsable, meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "devices.replica.read-your-writes", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DeviceReplicaProperties replica) {
+        var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(replica.getReadYourWrites().getWindow()));
+        registration.addUrlPatterns("/devices-api/v1/devices", "/devices-api/v1/devices/*");
+        // Behind the admission filters: shed requests neither need nor get the cookie
+        registration.setOrder(LoadSheddingConfig.ORDER + 2);
+        return registration;
+    }
+}
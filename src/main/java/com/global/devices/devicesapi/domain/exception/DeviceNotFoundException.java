@@ -1,7 +1,31 @@
 package com.global.devices.devicesapi.domain.exception;
 
+import java.util.UUID;
+
+/*
+Control-flow exception behind every 404: it never records a stack trace, and forId defers
+building the message until something (the handler, a log line) actually reads it.
+*/
 public class DeviceNotFoundException extends RuntimeException {
+
+    private final UUID deviceId;
+
     public DeviceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.deviceId = null;
+    }
+
+    private DeviceNotFoundException(UUID deviceId) {
+        super(null, null, false, false);
+        this.deviceId = deviceId;
+    }
+
+    public static DeviceNotFoundException forId(UUID deviceId) {
+        return new DeviceNotFoundException(deviceId);
+    }
+
+    @Override
+    public String getMessage() {
+        return deviceId == null ? super.getMessage() : "Device with id " + deviceId + " not found";
     }
 }
@@ -1,8 +1,42 @@
 package com.global.devices.devicesapi.domain.exception;
 
+import java.util.UUID;
 
+/*
+Rejected client operation. Like DeviceNotFoundException it skips the stack trace, and the
+per-device factories build their message only when it is read.
+*/
 public class InvalidOperationException extends RuntimeException {
+
+    private final UUID deviceId;
+    private final String detail;
+
     public InvalidOperationException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.deviceId = null;
+        this.detail = null;
+    }
+
+    private InvalidOperationException(UUID deviceId, String detail) {
+        super(null, null, false, false);
+        this.deviceId = deviceId;
+        this.detail = detail;
+    }
+
+    public static InvalidOperationException inUse(UUID deviceId) {
+        return new InvalidOperationException(deviceId, " is currently in use and cannot be updated/deleted");
+    }
+
+    public static InvalidOperationException creationTimeImmutable(UUID deviceId) {
+        return new InvalidOperationException(deviceId, " creationTime can not be updated");
+    }
+
+    public static InvalidOperationException fieldNotNullable(UUID deviceId, String field) {
+        return new InvalidOperationException(deviceId, " " + field + " can not be null");
+    }
+
+    @Override
+    public String getMessage() {
+        return deviceId == null ? super.getMessage() : "Device with id " + deviceId + detail;
     }
-}
\ No newline at end of file
+}
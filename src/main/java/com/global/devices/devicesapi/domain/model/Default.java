@@ -0,0 +1,16 @@
+package com.global.devices.devicesapi.domain.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+Marks the constructor generated mappers use when a class has several.
+MapStruct recognises any annotation with this simple name, so the domain stays free of it.
+*/
+
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.CONSTRUCTOR)
+public @interface Default {
+}
@@ -1,7 +1,9 @@
 package com.global.devices.devicesapi.domain.model;
 
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper.DeviceEntityMapper;
 import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.application.usecase.mapper.DeviceUseCaseMapper;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -12,6 +14,7 @@ public class Device {
     private String brand;
     private DeviceState state;
     private final Instant creationTime;
+    private final Long version;
 
     public Device(String name, String brand, DeviceState state) {
         this.id = UUID.randomUUID();
@@ -19,14 +22,21 @@ public class Device {
         this.brand = brand;
         this.state = state;
         this.creationTime = Instant.now();
+        this.version = null;
     }
 
     public Device(UUID id, String name, String brand, DeviceState state, Instant creationTime) {
+        this(id, name, brand, state, creationTime, null);
+    }
+
+    @Default
+    public Device(UUID id, String name, String brand, DeviceState state, Instant creationTime, Long version) {
         this.id = id;
         this.name = name;
         this.brand = brand;
         this.state = state;
         this.creationTime = creationTime;
+        this.version = version;
     }
 
     public UUID getId() { return id; }
@@ -34,25 +44,15 @@ public class Device {
     public String getBrand() { return brand; }
     public DeviceState getState() { return state; }
     public Instant getCreationTime() { return creationTime; }
+    // Incremented on every update, null until the device is first persisted
+    public Long getVersion() { return version; }
 
 
     public DeviceUseCaseResponse toUseCaseResponse() {
-        return DeviceUseCaseResponse.builder()
-                .id(this.id)
-                .name(this.name)
-                .brand(this.brand)
-                .state(this.state)
-                .creationTime(this.creationTime)
-                .build();
+        return DeviceUseCaseMapper.INSTANCE.toUseCaseResponse(this);
     }
 
     public DeviceEntity toEntity() {
-        return DeviceEntity.builder()
-                .id(this.id)
-                .name(this.name)
-                .brand(this.brand)
-                .state(this.state)
-                .creationTime(this.creationTime)
-                .build();
+        return DeviceEntityMapper.INSTANCE.toEntity(this);
     }
 }
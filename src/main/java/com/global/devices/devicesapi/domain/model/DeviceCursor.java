@@ -0,0 +1,36 @@
+package com.global.devices.devicesapi.domain.model;
+
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/*
+Position in the (creationTime, id) ordering used for keyset pagination.
+Clients only ever see the opaque encoded form.
+*/
+
+public record DeviceCursor(Instant creationTime, UUID id) {
+
+    public static DeviceCursor of(Device device) {
+        return new DeviceCursor(device.getCreationTime(), device.getId());
+    }
+
+    public String encode() {
+        String raw = creationTime.getEpochSecond() + "." + creationTime.getNano() + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DeviceCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\.", 3);
+            Instant creationTime = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new DeviceCursor(creationTime, UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidOperationException("Invalid cursor " + token);
+        }
+    }
+}
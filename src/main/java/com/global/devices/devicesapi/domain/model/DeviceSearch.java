@@ -0,0 +1,29 @@
+package com.global.devices.devicesapi.domain.model;
+
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+
+import java.time.Instant;
+
+/*
+Filters for the combined device search; a null filter matches every device.
+The creation-time range is half-open: createdAfter inclusive, createdBefore exclusive.
+Results are keyset pages on (creationTime, id), oldest first unless order is DESC.
+*/
+
+public record DeviceSearch(String brand, DeviceState state, Instant createdAfter, Instant createdBefore, Order order) {
+
+    public enum Order { ASC, DESC }
+
+    public DeviceSearch {
+        if (order == null) {
+            order = Order.ASC;
+        }
+        if (createdAfter != null && createdBefore != null && !createdAfter.isBefore(createdBefore)) {
+            throw new InvalidOperationException("createdAfter must be before createdBefore");
+        }
+    }
+
+    public boolean descending() {
+        return order == Order.DESC;
+    }
+}
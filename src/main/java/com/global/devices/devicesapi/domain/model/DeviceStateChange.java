@@ -0,0 +1,13 @@
+package com.global.devices.devicesapi.domain.model;
+
+import java.util.Set;
+import java.util.UUID;
+
+/*
+Outcome of a set-based state change over existing devices:
+changed ones were updated, rejected ones are IN_USE and were left untouched.
+Requested ids in neither set do not exist.
+*/
+
+public record DeviceStateChange(Set<UUID> changed, Set<UUID> rejected) {
+}
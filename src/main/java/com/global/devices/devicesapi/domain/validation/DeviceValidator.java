@@ -6,6 +6,8 @@ import com.global.devices.devicesapi.domain.model.DeviceState;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Component
 @Slf4j
 public class DeviceValidator {
@@ -15,7 +17,11 @@ public class DeviceValidator {
                 device.getId(), device.getState());
 
         if (device.getState() == DeviceState.IN_USE) {
-            throw new InvalidOperationException("Device with id "+ device.getId()+" is currently in use and cannot be updated/deleted");
+            throw inUse(device.getId());
         }
     }
+
+    public InvalidOperationException inUse(UUID deviceId) {
+        return InvalidOperationException.inUse(deviceId);
+    }
 }
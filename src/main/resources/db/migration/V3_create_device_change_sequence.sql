@@ -0,0 +1,6 @@
+CREATE TABLE device_change_sequence (
+                        id SMALLINT PRIMARY KEY,
+                        sequence_value BIGINT NOT NULL
+);
+
+INSERT INTO device_change_sequence (id, sequence_value) VALUES (1, 0);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_device_creation_time_id ON device (creation_time, id);
+CREATE INDEX idx_device_brand_creation_time_id ON device (brand, creation_time, id);
+CREATE INDEX idx_device_state_creation_time_id ON device (state, creation_time, id);
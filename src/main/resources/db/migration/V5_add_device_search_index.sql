@@ -0,0 +1,2 @@
+-- Serves searches filtering on brand and state together, optionally with a creation_time range
+CREATE INDEX idx_device_brand_state_creation_time_id ON device (brand, state, creation_time, id);
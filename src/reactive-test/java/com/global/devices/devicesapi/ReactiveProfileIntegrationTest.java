@@ -0,0 +1,89 @@
+package com.global.devices.devicesapi;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+Starts the application the way an edge node does (the reactive profile on top of
+application.yaml) against R2DBC H2, and checks that only the non-blocking stack is wired.
+@SpringBootTest would pick the servlet stack from the classpath, hence the plain launch.
+*/
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveProfileIntegrationTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    private ConfigurableApplicationContext application;
+    private WebTestClient client;
+
+    @BeforeAll
+    void start() {
+        application = new SpringApplicationBuilder(DevicesApiApplication.class).profiles("reactive").run(
+                "--server.port=0",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///reactive-profile;DB_CLOSE_DELAY=-1",
+                "--spring.r2dbc.username=sa",
+                "--spring.r2dbc.password=",
+                "--devices.cache.invalidation.enabled=false");
+        DatabaseClient databaseClient = application.getBean(DatabaseClient.class);
+        List.of("""
+                        CREATE TABLE device (
+                            id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, brand VARCHAR(255) NOT NULL,
+                            state VARCHAR(20) NOT NULL, creation_time TIMESTAMP WITH TIME ZONE NOT NULL,
+                            version BIGINT DEFAULT 0 NOT NULL)""",
+                        "CREATE TABLE device_change_sequence (id SMALLINT PRIMARY KEY, sequence_value BIGINT NOT NULL)")
+                .forEach(sql -> databaseClient.sql(sql).then().block());
+        int port = ((ReactiveWebServerApplicationContext) application).getWebServer().getPort();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @AfterAll
+    void stop() {
+        application.close();
+    }
+
+    @Test
+    void reactiveProfile_ShouldRunOnNettyWithoutJdbc() {
+        assertThat(((ReactiveWebServerApplicationContext) application).getWebServer()).isInstanceOf(NettyWebServer.class);
+        assertThat(application.getBeanNamesForType(DataSource.class)).isEmpty();
+    }
+
+    @Test
+    void createThenRead_ShouldServeSameContractAsServletStack() {
+        // Arrange
+        String id = client.post().uri(BASE_URL)
+                .bodyValue(Map.of("name", "Laptop", "brand", "Reactive", "state", "AVAILABLE"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class).returnResult().getResponseBody()
+                .get("id").toString();
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"");
+        client.get().uri(BASE_URL + "?brand=Reactive")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody().jsonPath("$[0].id").isEqualTo(id);
+        client.get().uri(BASE_URL + "/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
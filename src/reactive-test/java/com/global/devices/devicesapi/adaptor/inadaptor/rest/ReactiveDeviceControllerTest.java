@@ -0,0 +1,190 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.application.usecase.ReactiveDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveDeviceController.class)
+@ActiveProfiles("reactive")
+class ReactiveDeviceControllerTest {
+
+    private static final String BASE = "/devices-api/v1/devices";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveDeviceUseCase deviceUseCase;
+
+    private final UUID deviceId = UUID.randomUUID();
+    private final Instant creationTime = Instant.parse("2025-12-08T10:00:00Z");
+
+    // --- 1. Single device ---
+
+    @Test
+    void createDevice_ShouldReturn201() {
+        // Arrange
+        when(deviceUseCase.create(any())).thenReturn(Mono.just(response(deviceId)));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "Laptop", "brand", "Dell", "state", "AVAILABLE"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo(deviceId.toString());
+    }
+
+    @Test
+    void createDevice_ShouldReturnValidationErrors() {
+        // Act & Assert
+        webTestClient.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("brand", "Dell", "state", "AVAILABLE"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors.name").exists();
+        verifyNoInteractions(deviceUseCase);
+    }
+
+    @Test
+    void getDeviceById_ShouldReturn404WithErrorBody() {
+        // Arrange
+        when(deviceUseCase.findById(deviceId)).thenReturn(Mono.error(DeviceNotFoundException.forId(deviceId)));
+
+        // Act & Assert
+        webTestClient.get().uri(BASE + "/{id}", deviceId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo(BASE + "/" + deviceId);
+    }
+
+    @Test
+    void getDeviceById_ShouldReturn304WhenVersionMatches() {
+        // Arrange
+        when(deviceUseCase.findVersion(deviceId)).thenReturn(Mono.just(3L));
+        when(deviceUseCase.findById(deviceId)).thenReturn(Mono.just(response(deviceId)));
+
+        // Act & Assert
+        webTestClient.get().uri(BASE + "/{id}", deviceId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"");
+    }
+
+    @Test
+    void deleteDevice_ShouldReturn400WhenInUse() {
+        // Arrange
+        when(deviceUseCase.deleteDevice(deviceId)).thenReturn(Mono.error(InvalidOperationException.inUse(deviceId)));
+
+        // Act & Assert
+        webTestClient.delete().uri(BASE + "/{id}", deviceId)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    // --- 2. Pages ---
+
+    @Test
+    void getByBrand_ShouldReturnPageWithCursorAndSameETagAsServletStack() {
+        // Arrange
+        var next = new DeviceCursor(creationTime, deviceId);
+        when(deviceUseCase.getChangeSequence()).thenReturn(Mono.just(7L));
+        when(deviceUseCase.search(eq(new DeviceSearch("Dell", null, null, null, null)), eq(null), eq(1)))
+                .thenReturn(Mono.just(new DevicePage(List.of(response(deviceId)), next)));
+
+        // Act & Assert
+        webTestClient.get().uri(BASE + "?brand=Dell&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(DeviceController.NEXT_CURSOR_HEADER, next.encode())
+                .expectHeader().valueEquals(HttpHeaders.ETAG, ETags.weak(7L, "brand", "Dell", null, 1))
+                .expectBody().jsonPath("$[0].id").isEqualTo(deviceId.toString());
+    }
+
+    @Test
+    void getDevices_ShouldReturn304WithoutQueryingWhenSequenceUnchanged() {
+        // Arrange
+        when(deviceUseCase.getChangeSequence()).thenReturn(Mono.just(7L));
+        String etag = ETags.weak(7L, "all", null, DeviceController.DEFAULT_PAGE_SIZE);
+
+        // Act & Assert
+        webTestClient.get().uri(BASE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+        verify(deviceUseCase, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void searchDevices_ShouldRejectInvertedRange() {
+        // Act & Assert
+        webTestClient.get().uri(BASE + "/search?createdAfter=2025-12-08T00:00:00Z&createdBefore=2025-12-01T00:00:00Z")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    // --- 3. Export streams one JSON document per line ---
+
+    @Test
+    void exportDevices_ShouldStreamNdjsonOnDemand() {
+        // Arrange
+        UUID second = UUID.randomUUID();
+        when(deviceUseCase.exportAll()).thenReturn(Flux.just(response(deviceId), response(second)));
+
+        // Act
+        var body = webTestClient.get().uri(BASE + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(String.class)
+                .getResponseBody();
+
+        // Assert
+        StepVerifier.create(body)
+                .expectNextMatches(line -> line.contains(deviceId.toString()))
+                .expectNextMatches(line -> line.contains(second.toString()))
+                .verifyComplete();
+    }
+
+    private DeviceUseCaseResponse response(UUID id) {
+        return DeviceUseCaseResponse.builder()
+                .id(id)
+                .name("Laptop")
+                .brand("Dell")
+                .state(DeviceState.AVAILABLE)
+                .creationTime(creationTime)
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.ReactiveDeviceInvalidationPublisher;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Postgres-only statements of the R2DBC adaptor: RETURNING, the locking CTE and pg_notify
+@DataR2dbcTest
+@ActiveProfiles("reactive")
+@Import({ReactiveDeviceDao.class, ReactiveDeviceInvalidationPublisher.class, DeviceCacheProperties.class, DeviceBulkProperties.class})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveDeviceDaoPostgresTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void r2dbc(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+        registry.add("devices.cache.invalidation.enabled", () -> "true");
+    }
+
+    @Autowired
+    private ReactiveDeviceDao deviceDao;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeAll
+    void schema() {
+        List.of("""
+                        CREATE TABLE device (
+                            id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, brand VARCHAR(255) NOT NULL,
+                            state VARCHAR(20) NOT NULL, creation_time TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                            version BIGINT DEFAULT 0 NOT NULL)""",
+                        "CREATE TABLE device_change_sequence (id SMALLINT PRIMARY KEY, sequence_value BIGINT NOT NULL)")
+                .forEach(sql -> databaseClient.sql(sql).then().block());
+    }
+
+    // --- 1. Conditional update ---
+
+    @Test
+    void updateIfNotInUse_ShouldUpdateAndReturnRowWithBumpedVersion() {
+        // Arrange
+        Device created = deviceDao.save(new Device("Laptop", "Dell", DeviceState.AVAILABLE)).block();
+
+        // Act & Assert: null columns keep their stored value
+        StepVerifier.create(deviceDao.updateIfNotInUse(created.getId(), "Laptop 2", null, DeviceState.INACTIVE))
+                .assertNext(updated -> {
+                    assertThat(updated.getName()).isEqualTo("Laptop 2");
+                    assertThat(updated.getBrand()).isEqualTo("Dell");
+                    assertThat(updated.getState()).isEqualTo(DeviceState.INACTIVE);
+                    assertThat(updated.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateIfNotInUse_ShouldBeEmptyForInUseDevice() {
+        // Arrange
+        Device inUse = deviceDao.save(new Device("Phone", "Apple", DeviceState.IN_USE)).block();
+
+        // Act & Assert
+        StepVerifier.create(deviceDao.updateIfNotInUse(inUse.getId(), "Other", null, null)).verifyComplete();
+    }
+
+    // --- 2. Set-based state change ---
+
+    @Test
+    void changeStateIfNotInUse_ShouldSplitExistingIdsIntoChangedAndRejected() {
+        // Arrange
+        Device available = deviceDao.save(new Device("Tablet", "Acme", DeviceState.AVAILABLE)).block();
+        Device inUse = deviceDao.save(new Device("Sensor", "Acme", DeviceState.IN_USE)).block();
+        UUID missing = UUID.randomUUID();
+
+        // Act & Assert
+        StepVerifier.create(deviceDao.changeStateIfNotInUse(
+                        List.of(available.getId(), inUse.getId(), missing), DeviceState.INACTIVE))
+                .expectNext(new DeviceStateChange(Set.of(available.getId()), Set.of(inUse.getId())))
+                .verifyComplete();
+    }
+
+    // --- 3. Sequence and notification are part of the write ---
+
+    @Test
+    void saveAll_ShouldBumpSequenceOnceAndNotifyInsideTransaction() {
+        // Arrange
+        long before = deviceDao.currentChangeSequence().block();
+        List<Device> devices = List.of(new Device("A", "Acme", DeviceState.AVAILABLE),
+                new Device("B", "Acme", DeviceState.AVAILABLE));
+
+        // Act & Assert
+        StepVerifier.create(deviceDao.saveAll(devices).count()).expectNext(2L).verifyComplete();
+        StepVerifier.create(deviceDao.currentChangeSequence()).expectNext(before + 1).verifyComplete();
+    }
+}
@@ -0,0 +1,161 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.ReactiveDeviceInvalidationPublisher;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// Portable statements on R2DBC H2; RETURNING, the locking CTE and NOTIFY are in ReactiveDeviceDaoPostgresTest
+@DataR2dbcTest
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-devices;DB_CLOSE_DELAY=-1",
+        "devices.bulk.chunk-size=2",
+        "devices.cache.invalidation.enabled=false"
+})
+@Import({ReactiveDeviceDao.class, ReactiveDeviceInvalidationPublisher.class, DeviceCacheProperties.class, DeviceBulkProperties.class})
+class ReactiveDeviceDaoTest {
+
+    private static final Instant NOW = Instant.parse("2025-12-08T10:00:00Z");
+
+    @Autowired
+    private ReactiveDeviceDao deviceDao;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void schema() {
+        List.of("DROP TABLE IF EXISTS device",
+                        "DROP TABLE IF EXISTS device_change_sequence",
+                        """
+                        CREATE TABLE device (
+                            id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, brand VARCHAR(255) NOT NULL,
+                            state VARCHAR(20) NOT NULL, creation_time TIMESTAMP WITH TIME ZONE NOT NULL,
+                            version BIGINT DEFAULT 0 NOT NULL)""",
+                        "CREATE TABLE device_change_sequence (id SMALLINT PRIMARY KEY, sequence_value BIGINT NOT NULL)")
+                .forEach(sql -> databaseClient.sql(sql).then().block());
+    }
+
+    // --- 1. Writes ---
+
+    @Test
+    void save_ShouldInsertAndBumpChangeSequence() {
+        // Arrange
+        Device device = new Device("Laptop", "Dell", DeviceState.AVAILABLE);
+
+        // Act
+        Device saved = deviceDao.save(device).block();
+
+        // Assert
+        assertThat(saved.getVersion()).isZero();
+        StepVerifier.create(deviceDao.findById(device.getId()))
+                .assertNext(found -> {
+                    assertThat(found.getName()).isEqualTo("Laptop");
+                    assertThat(found.getCreationTime()).isCloseTo(device.getCreationTime(), within(1, ChronoUnit.MICROS));
+                })
+                .verifyComplete();
+        StepVerifier.create(deviceDao.currentChangeSequence()).expectNext(1L).verifyComplete();
+    }
+
+    @Test
+    void saveAll_ShouldInsertEveryChunkWithOneSequenceBump() {
+        // Arrange: five devices in chunks of two
+        List<Device> devices = IntStream.range(0, 5)
+                .mapToObj(i -> device("Device " + i, "Acme", DeviceState.AVAILABLE, i))
+                .toList();
+
+        // Act
+        List<Device> saved = deviceDao.saveAll(devices).collectList().block();
+
+        // Assert
+        assertThat(saved).extracting(Device::getId).containsExactlyElementsOf(devices.stream().map(Device::getId).toList());
+        StepVerifier.create(deviceDao.findAllByIds(devices.stream().map(Device::getId).toList()).count())
+                .expectNext(5L)
+                .verifyComplete();
+        StepVerifier.create(deviceDao.currentChangeSequence()).expectNext(1L).verifyComplete();
+    }
+
+    @Test
+    void deleteIfNotInUse_ShouldOnlyDeleteDevicesThatAreNotInUse() {
+        // Arrange
+        Device available = deviceDao.save(new Device("Tablet", "Acme", DeviceState.AVAILABLE)).block();
+        Device inUse = deviceDao.save(new Device("Sensor", "Acme", DeviceState.IN_USE)).block();
+
+        // Act & Assert
+        StepVerifier.create(deviceDao.deleteIfNotInUse(available.getId())).expectNext(true).verifyComplete();
+        StepVerifier.create(deviceDao.deleteIfNotInUse(inUse.getId())).expectNext(false).verifyComplete();
+        StepVerifier.create(deviceDao.existsById(available.getId())).expectNext(false).verifyComplete();
+        StepVerifier.create(deviceDao.existsById(inUse.getId())).expectNext(true).verifyComplete();
+        StepVerifier.create(deviceDao.currentChangeSequence()).expectNext(3L).verifyComplete();
+    }
+
+    // --- 2. Reads ---
+
+    @Test
+    void findVersionById_ShouldBeEmptyForUnknownId() {
+        StepVerifier.create(deviceDao.findVersionById(UUID.randomUUID())).verifyComplete();
+        StepVerifier.create(deviceDao.currentChangeSequence()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void search_ShouldPageThroughFiltersInBothOrders() {
+        // Arrange
+        List<Device> dell = IntStream.range(0, 4)
+                .mapToObj(i -> device("Dell " + i, "Dell", DeviceState.AVAILABLE, i))
+                .toList();
+        deviceDao.saveAll(dell).blockLast();
+        deviceDao.save(device("Other", "Acme", DeviceState.AVAILABLE, 10)).block();
+        var ascending = new DeviceSearch("Dell", DeviceState.AVAILABLE, null, null, null);
+        var descending = new DeviceSearch("Dell", null, NOW, NOW.plus(3, ChronoUnit.MINUTES), DeviceSearch.Order.DESC);
+
+        // Act & Assert
+        StepVerifier.create(deviceDao.search(ascending, DeviceCursor.of(dell.get(1)), 10).map(Device::getName))
+                .expectNext("Dell 2", "Dell 3")
+                .verifyComplete();
+        StepVerifier.create(deviceDao.search(descending, null, 2).map(Device::getName))
+                .expectNext("Dell 2", "Dell 1")
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAll_ShouldEmitEveryDeviceInCreationOrderOnDemand() {
+        // Arrange
+        List<Device> devices = IntStream.range(0, 5)
+                .mapToObj(i -> device("Device " + i, "Acme", DeviceState.AVAILABLE, 4 - i))
+                .toList();
+        deviceDao.saveAll(devices).blockLast();
+
+        // Act & Assert: the subscriber asks for two rows at a time
+        StepVerifier.create(deviceDao.streamAll().map(Device::getName), 2)
+                .expectNext("Device 4", "Device 3")
+                .thenRequest(3)
+                .expectNext("Device 2", "Device 1", "Device 0")
+                .verifyComplete();
+    }
+
+    private static Device device(String name, String brand, DeviceState state, int minutes) {
+        return new Device(UUID.randomUUID(), name, brand, state, NOW.plus(minutes, ChronoUnit.MINUTES));
+    }
+}
@@ -0,0 +1,203 @@
+package com.global.devices.devicesapi.application.service;
+
+import com.global.devices.devicesapi.application.datasource.ReactiveDeviceRepositoryPort;
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
+import com.global.devices.devicesapi.domain.validation.DeviceValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDeviceServiceTest {
+
+    @Mock
+    private ReactiveDeviceRepositoryPort repository;
+
+    @Mock
+    private DeviceValidator deviceValidator;
+
+    @InjectMocks
+    private ReactiveDeviceService service;
+
+    private final UUID TEST_ID = UUID.randomUUID();
+    private final Instant TEST_TIME = Instant.parse("2025-12-08T10:00:00Z");
+
+    // --- 1. Create ---
+
+    @Test
+    void create_ShouldSaveNewDevice() {
+        // Arrange
+        when(repository.save(any(Device.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        var request = new DeviceUseCaseRequest("Laptop", "Dell", DeviceState.AVAILABLE);
+
+        // Act & Assert
+        StepVerifier.create(service.create(request))
+                .assertNext(response -> {
+                    assertNotNull(response.getId());
+                    assertEquals("Laptop", response.getName());
+                    assertEquals(DeviceState.AVAILABLE, response.getState());
+                })
+                .verifyComplete();
+    }
+
+    // --- 2. Reads ---
+
+    @Test
+    void findById_ShouldSignalNotFoundWhenEmpty() {
+        // Arrange
+        when(repository.findById(TEST_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.findById(TEST_ID))
+                .expectError(DeviceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getByIds_ShouldKeepRequestOrderAndListMissingIds() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        when(repository.findAllByIds(anyCollection())).thenReturn(Flux.just(device(TEST_ID, DeviceState.AVAILABLE)));
+
+        // Act & Assert
+        StepVerifier.create(service.getByIds(List.of(missing, TEST_ID, missing)))
+                .assertNext(batch -> {
+                    assertEquals(List.of(TEST_ID), batch.items().stream().map(item -> item.getId()).toList());
+                    assertEquals(List.of(missing), batch.missing());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void search_ShouldFetchOneExtraRowAndReturnCursorOfLastItem() {
+        // Arrange
+        var search = new DeviceSearch("Dell", null, null, null, null);
+        Device first = device(UUID.randomUUID(), DeviceState.AVAILABLE);
+        Device second = device(UUID.randomUUID(), DeviceState.AVAILABLE);
+        Device extra = device(UUID.randomUUID(), DeviceState.AVAILABLE);
+        when(repository.search(search, null, 3)).thenReturn(Flux.just(first, second, extra));
+
+        // Act & Assert
+        StepVerifier.create(service.search(search, null, 2))
+                .assertNext(page -> {
+                    assertEquals(2, page.items().size());
+                    assertEquals(DeviceCursor.of(second), page.next());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void search_ShouldReturnNoCursorOnLastPage() {
+        // Arrange
+        var search = new DeviceSearch(null, null, null, null, null);
+        when(repository.search(eq(search), any(), anyInt())).thenReturn(Flux.just(device(TEST_ID, DeviceState.AVAILABLE)));
+
+        // Act & Assert
+        StepVerifier.create(service.search(search, null, 5))
+                .assertNext(page -> assertNull(page.next()))
+                .verifyComplete();
+    }
+
+    // --- 3. Guarded writes and their rejections ---
+
+    @Test
+    void update_ShouldReturnUpdatedDeviceWithoutLookup() {
+        // Arrange
+        when(repository.updateIfNotInUse(TEST_ID, "New", null, null))
+                .thenReturn(Mono.just(device(TEST_ID, DeviceState.AVAILABLE)));
+
+        // Act & Assert
+        StepVerifier.create(service.update(TEST_ID, new DeviceUseCaseRequest("New", null, null)))
+                .assertNext(response -> assertEquals(TEST_ID, response.getId()))
+                .verifyComplete();
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void update_ShouldSignalInUseWhenDeviceExists() {
+        // Arrange
+        when(repository.updateIfNotInUse(TEST_ID, "New", null, null)).thenReturn(Mono.empty());
+        when(repository.existsById(TEST_ID)).thenReturn(Mono.just(true));
+        when(deviceValidator.inUse(TEST_ID)).thenReturn(InvalidOperationException.inUse(TEST_ID));
+
+        // Act & Assert
+        StepVerifier.create(service.update(TEST_ID, new DeviceUseCaseRequest("New", null, null)))
+                .expectError(InvalidOperationException.class)
+                .verify();
+    }
+
+    @Test
+    void patch_ShouldRejectCreationTimeWithoutTouchingRepository() {
+        // Act & Assert
+        StepVerifier.create(service.patch(TEST_ID, Map.of("creationTime", "2025-01-01T00:00:00Z")))
+                .expectError(InvalidOperationException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deleteDevice_ShouldCompleteWhenDeleted() {
+        // Arrange
+        when(repository.deleteIfNotInUse(TEST_ID)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteDevice(TEST_ID)).verifyComplete();
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void deleteDevice_ShouldSignalNotFoundWhenDeviceIsMissing() {
+        // Arrange
+        when(repository.deleteIfNotInUse(TEST_ID)).thenReturn(Mono.just(false));
+        when(repository.existsById(TEST_ID)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteDevice(TEST_ID))
+                .expectError(DeviceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void changeState_ShouldSplitIdsInRequestOrder() {
+        // Arrange
+        UUID rejected = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(repository.changeStateIfNotInUse(anyCollection(), eq(DeviceState.INACTIVE)))
+                .thenReturn(Mono.just(new DeviceStateChange(Set.of(TEST_ID), Set.of(rejected))));
+
+        // Act & Assert
+        StepVerifier.create(service.changeState(List.of(missing, rejected, TEST_ID, TEST_ID), DeviceState.INACTIVE))
+                .expectNext(new BulkStateChangeResult(List.of(TEST_ID), List.of(missing), List.of(rejected)))
+                .verifyComplete();
+    }
+
+    private Device device(UUID id, DeviceState state) {
+        return new Device(id, "Laptop", "Dell", state, TEST_TIME, 0L);
+    }
+}
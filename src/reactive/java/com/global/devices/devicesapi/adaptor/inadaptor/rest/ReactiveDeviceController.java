@@ -0,0 +1,238 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkCreateResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkItemResult;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkStateChangeRequest;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkStateChangeResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceBatchResponse;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceRequest;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.application.usecase.ReactiveDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.global.devices.devicesapi.adaptor.inadaptor.rest.DeviceController.*;
+
+/*
+WebFlux twin of DeviceController for the reactive profile: same paths, parameters, status codes,
+ETags and X-Next-Cursor header. Pages are bounded by MAX_PAGE_SIZE and collected before the
+response is committed, because their headers depend on the last row. /export is the unbounded
+read and streams rows as NDJSON, pulled from the database only as fast as the client reads them.
+*/
+
+@AllArgsConstructor
+@RestController
+@Profile("reactive")
+@RequestMapping("/devices-api/v1/devices")
+public class ReactiveDeviceController {
+
+    private final ReactiveDeviceUseCase deviceUseCase;
+    private final Validator validator;
+
+    @PostMapping
+    public Mono<ResponseEntity<DeviceResponse>> createDevice(@Valid @RequestBody DeviceRequest request) {
+        return deviceUseCase.create(request.toUseCaseRequest())
+                .map(device -> ResponseEntity.status(HttpStatus.CREATED).body(DeviceResponse.from(device)));
+    }
+
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<BulkCreateResponse>> createDevices(@RequestBody List<DeviceRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            return Mono.error(new InvalidOperationException(
+                    "Bulk create accepts between 1 and " + MAX_BULK_SIZE + " devices"));
+        }
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<DeviceUseCaseRequest> validRequests = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                validRequests.add(requests.get(i).toUseCaseRequest());
+            } else {
+                results[i] = BulkItemResult.invalid(i, errors);
+            }
+        }
+
+        var created = validRequests.isEmpty()
+                ? Mono.just(List.<DeviceResponse>of())
+                : deviceUseCase.createAll(validRequests).map(DeviceResponse::from).collectList();
+        return created.map(devices -> {
+            for (int i = 0; i < devices.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = BulkItemResult.created(index, devices.get(i));
+            }
+            int invalid = requests.size() - devices.size();
+            var body = BulkCreateResponse.builder()
+                    .created(devices.size())
+                    .invalid(invalid)
+                    .results(List.of(results))
+                    .build();
+            return ResponseEntity.status(invalid == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(body);
+        });
+    }
+
+    private Map<String, String> validate(DeviceRequest request) {
+        if (request == null) {
+            return Map.of("item", "Device is required");
+        }
+        return validator.validate(request).stream()
+                .collect(Collectors.toMap(violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage, (first, second) -> first));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<DeviceResponse>> updateDevice(@PathVariable UUID id, @RequestBody DeviceRequest request) {
+        return deviceUseCase.update(id, request.toUseCaseRequest())
+                .map(device -> ResponseEntity.status(HttpStatus.CREATED).body(DeviceResponse.from(device)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<DeviceResponse>> getDeviceById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Mono<ResponseEntity<DeviceResponse>> full = deviceUseCase.findById(id).map(device -> {
+            var response = ResponseEntity.ok();
+            if (device.getVersion() != null) {
+                response.eTag(ETags.strong(device.getVersion()));
+            }
+            return response.body(DeviceResponse.from(device));
+        });
+        if (ifNoneMatch == null) {
+            return full;
+        }
+        // Only the version is read first, so an unchanged device costs no row mapping or body
+        return deviceUseCase.findVersion(id)
+                .filter(version -> ETags.matches(ifNoneMatch, ETags.strong(version)))
+                .map(version -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(ETags.strong(version)).<DeviceResponse>build())
+                .switchIfEmpty(full);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<DeviceResponse>>> getDevices(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return page(new DeviceSearch(null, null, null, null, null), cursor, limit, ifNoneMatch, "all");
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<DeviceBatchResponse>> getByIds(@RequestParam List<UUID> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_PAGE_SIZE) {
+            return Mono.error(new InvalidOperationException(
+                    "ids must contain between 1 and " + MAX_PAGE_SIZE + " values"));
+        }
+        return deviceUseCase.getByIds(ids).map(batch -> ResponseEntity.ok(DeviceBatchResponse.from(batch)));
+    }
+
+    @GetMapping(params = "brand")
+    public Mono<ResponseEntity<List<DeviceResponse>>> getByBrand(@RequestParam String brand,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return page(new DeviceSearch(brand, null, null, null, null), cursor, limit, ifNoneMatch, "brand", brand);
+    }
+
+    @GetMapping(params = "state")
+    public Mono<ResponseEntity<List<DeviceResponse>>> getByState(@RequestParam DeviceState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return page(new DeviceSearch(null, state, null, null, null), cursor, limit, ifNoneMatch, "state", state);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<DeviceResponse>>> searchDevices(
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) DeviceState state,
+            @RequestParam(required = false) Instant createdAfter,
+            @RequestParam(required = false) Instant createdBefore,
+            @RequestParam(defaultValue = "ASC") DeviceSearch.Order order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var search = new DeviceSearch(brand, state, createdAfter, createdBefore, order);
+        return page(search, cursor, limit, ifNoneMatch,
+                "search", brand, state, createdAfter, createdBefore, order);
+    }
+
+    // The ETag query keys match DeviceController's, so a tag from either stack is valid on the other
+    private Mono<ResponseEntity<List<DeviceResponse>>> page(
+            DeviceSearch search, String cursor, Integer limit, String ifNoneMatch, Object... filterKey) {
+        int pageSize = pageSize(limit);
+        DeviceCursor after = cursor == null ? null : DeviceCursor.decode(cursor);
+        Object[] queryKey = new Object[filterKey.length + 2];
+        System.arraycopy(filterKey, 0, queryKey, 0, filterKey.length);
+        queryKey[filterKey.length] = cursor;
+        queryKey[filterKey.length + 1] = pageSize;
+        return conditionalPage(ifNoneMatch, () -> deviceUseCase.search(search, after, pageSize), queryKey);
+    }
+
+    // As in DeviceController, the sequence is read before the query
+    private Mono<ResponseEntity<List<DeviceResponse>>> conditionalPage(
+            String ifNoneMatch, Supplier<Mono<DevicePage>> query, Object... queryKey) {
+        return deviceUseCase.getChangeSequence().flatMap(sequence -> {
+            String etag = ETags.weak(sequence, queryKey);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+            }
+            return query.get().map(page -> {
+                var response = ResponseEntity.ok().eTag(etag);
+                if (page.next() != null) {
+                    response.header(NEXT_CURSOR_HEADER, page.next().encode());
+                }
+                return response.body(DeviceResponse.fromList(page.items()));
+            });
+        });
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public Flux<DeviceResponse> exportDevices() {
+        return deviceUseCase.exportAll().map(DeviceResponse::from);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteDevice(@PathVariable UUID id) {
+        return deviceUseCase.deleteDevice(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PatchMapping("/state")
+    public Mono<ResponseEntity<BulkStateChangeResponse>> changeState(
+            @Valid @RequestBody BulkStateChangeRequest request) {
+        return deviceUseCase.changeState(request.getIds(), request.getState())
+                .map(result -> ResponseEntity.ok(BulkStateChangeResponse.from(result)));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<DeviceResponse>> updateDevice(
+            @PathVariable UUID id,
+            @RequestBody Map<String, Object> updatedFields) {
+        return deviceUseCase.patch(id, updatedFields)
+                .map(device -> ResponseEntity.status(HttpStatus.CREATED).body(DeviceResponse.from(device)));
+    }
+}
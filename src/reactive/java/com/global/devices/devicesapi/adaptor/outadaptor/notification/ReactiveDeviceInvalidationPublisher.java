@@ -0,0 +1,58 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.notification;
+
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+R2DBC twin of DeviceInvalidationPublisher: same channel and "<nodeId>:<deviceId>" payload,
+so servlet nodes evict for writes made through the reactive stack.
+Reactive nodes keep no cache, so nothing listens on this side.
+*/
+
+@Component
+@Profile("reactive")
+public class ReactiveDeviceInvalidationPublisher {
+
+    private final DatabaseClient databaseClient;
+    private final DeviceCacheProperties.Invalidation properties;
+    private final String nodeId;
+
+    public ReactiveDeviceInvalidationPublisher(DatabaseClient databaseClient, DeviceCacheProperties cacheProperties) {
+        this.databaseClient = databaseClient;
+        this.properties = cacheProperties.getInvalidation();
+        this.nodeId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    public Mono<Void> publish(UUID deviceId) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", properties.getChannel())
+                .bind("payload", nodeId + ":" + deviceId)
+                .then();
+    }
+
+    // The ids are written in the same transaction, so they are read back instead of bound as an array
+    public Mono<Void> publishAll(Collection<UUID> deviceIds) {
+        if (!properties.isEnabled() || deviceIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("SELECT pg_notify(:channel, :node || ':' || id) FROM device WHERE id IN (:ids)")
+                .bind("channel", properties.getChannel())
+                .bind("node", nodeId)
+                .bind("ids", deviceIds)
+                .then();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
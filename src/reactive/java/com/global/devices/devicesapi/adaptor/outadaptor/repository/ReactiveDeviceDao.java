@@ -0,0 +1,315 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.ReactiveDeviceInvalidationPublisher;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceChangeSequenceEntity;
+import com.global.devices.devicesapi.application.datasource.ReactiveDeviceRepositoryPort;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+R2DBC implementation of the device port for the reactive profile. The statements mirror
+DeviceDao and the keyset queries mirror JdbcDeviceQueryRepository, so both stacks hit the
+same indexes, bump the same change sequence and publish on the same invalidation channel.
+*/
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDeviceDao implements ReactiveDeviceRepositoryPort {
+
+    static final int EXPORT_FETCH_SIZE = DeviceDao.EXPORT_FETCH_SIZE;
+    private static final String SELECT = "SELECT id, name, brand, state, creation_time, version FROM device";
+
+    private static final String INSERT =
+            "INSERT INTO device (id, name, brand, state, creation_time, version) VALUES ($1, $2, $3, $4, $5, 0)";
+    private static final String CONDITIONAL_UPDATE = """
+            UPDATE device
+               SET name = COALESCE(:name, name), brand = COALESCE(:brand, brand), state = COALESCE(:state, state),
+                   version = version + 1
+             WHERE id = :id AND state <> 'IN_USE'
+            RETURNING id, name, brand, state, creation_time, version""";
+    private static final String BULK_STATE_CHANGE = """
+            WITH target AS (
+                SELECT id, state FROM device WHERE id IN (:ids) FOR UPDATE
+            ), updated AS (
+                UPDATE device d SET state = :state, version = d.version + 1
+                  FROM target t
+                 WHERE d.id = t.id AND t.state <> 'IN_USE'
+                RETURNING d.id
+            )
+            SELECT t.id, u.id IS NOT NULL AS changed
+              FROM target t LEFT JOIN updated u ON u.id = t.id""";
+    private static final String CONDITIONAL_DELETE = "DELETE FROM device WHERE id = :id AND state <> 'IN_USE'";
+    private static final String INCREMENT_SEQUENCE =
+            "UPDATE device_change_sequence SET sequence_value = sequence_value + 1 WHERE id = :id";
+    private static final String INSERT_SEQUENCE =
+            "INSERT INTO device_change_sequence (id, sequence_value) VALUES (:id, 1)";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveDeviceInvalidationPublisher invalidationPublisher;
+    private final DeviceBulkProperties bulkProperties;
+
+    @Override
+    @Transactional
+    public Mono<Device> save(Device device) {
+        return databaseClient.inConnection(connection -> {
+                    Statement statement = connection.createStatement(INSERT);
+                    bindInsert(statement, device);
+                    return Mono.from(statement.execute()).flatMap(result -> Mono.from(result.getRowsUpdated()));
+                })
+                .then(afterWrite(device.getId()))
+                .thenReturn(persisted(device));
+    }
+
+    /*
+    One multi-binding statement per bulkProperties.chunkSize rows, sent one chunk after the
+    other on the transaction's connection. As in DeviceDao, one sequence bump and one
+    notification round trip cover the whole batch.
+    */
+    @Override
+    @Transactional
+    public Flux<Device> saveAll(List<Device> devices) {
+        if (devices.isEmpty()) {
+            return Flux.empty();
+        }
+        List<List<Device>> chunks = new ArrayList<>();
+        for (int from = 0; from < devices.size(); from += bulkProperties.getChunkSize()) {
+            chunks.add(devices.subList(from, Math.min(from + bulkProperties.getChunkSize(), devices.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(this::insertChunk)
+                .then(incrementChangeSequence())
+                .then(invalidationPublisher.publishAll(devices.stream().map(Device::getId).toList()))
+                .thenMany(Flux.fromIterable(devices).map(ReactiveDeviceDao::persisted));
+    }
+
+    private Mono<Long> insertChunk(List<Device> chunk) {
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(INSERT);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bindInsert(statement, chunk.get(i));
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated).reduce(0L, Long::sum);
+        });
+    }
+
+    private static void bindInsert(Statement statement, Device device) {
+        statement.bind(0, device.getId())
+                .bind(1, device.getName())
+                .bind(2, device.getBrand())
+                .bind(3, device.getState().name())
+                .bind(4, device.getCreationTime());
+    }
+
+    private static Device persisted(Device device) {
+        return new Device(device.getId(), device.getName(), device.getBrand(), device.getState(),
+                device.getCreationTime(), 0L);
+    }
+
+    // Same contract as DeviceDao.afterWrite: subscribed inside the writing transaction
+    private Mono<Void> afterWrite(UUID deviceId) {
+        return incrementChangeSequence().then(invalidationPublisher.publish(deviceId));
+    }
+
+    private Mono<Void> incrementChangeSequence() {
+        return databaseClient.sql(INCREMENT_SEQUENCE)
+                .bind("id", DeviceChangeSequenceEntity.DEVICES)
+                .fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? Mono.<Void>empty()
+                        : databaseClient.sql(INSERT_SEQUENCE).bind("id", DeviceChangeSequenceEntity.DEVICES).then());
+    }
+
+    @Override
+    @Transactional
+    public Mono<Device> updateIfNotInUse(UUID id, String name, String brand, DeviceState state) {
+        var spec = databaseClient.sql(CONDITIONAL_UPDATE).bind("id", id);
+        spec = bindNullable(spec, "name", name);
+        spec = bindNullable(spec, "brand", brand);
+        spec = bindNullable(spec, "state", state == null ? null : state.name());
+        return spec
+                .map(ReactiveDeviceDao::mapRow)
+                .one()
+                .flatMap(device -> afterWrite(device.getId()).thenReturn(device));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Boolean> deleteIfNotInUse(UUID id) {
+        return databaseClient.sql(CONDITIONAL_DELETE)
+                .bind("id", id)
+                .fetch().rowsUpdated()
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.just(false)
+                        : afterWrite(id).thenReturn(true));
+    }
+
+    @Override
+    @Transactional
+    public Mono<DeviceStateChange> changeStateIfNotInUse(Collection<UUID> ids, DeviceState state) {
+        if (ids.isEmpty()) {
+            return Mono.just(new DeviceStateChange(Set.of(), Set.of()));
+        }
+        return databaseClient.sql(BULK_STATE_CHANGE)
+                .bind("ids", ids)
+                .bind("state", state.name())
+                .map(row -> Map.entry(row.get("id", UUID.class), Boolean.TRUE.equals(row.get("changed", Boolean.class))))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    Set<UUID> changed = new HashSet<>();
+                    Set<UUID> rejected = new HashSet<>();
+                    rows.forEach(row -> (row.getValue() ? changed : rejected).add(row.getKey()));
+                    var outcome = new DeviceStateChange(changed, rejected);
+                    if (changed.isEmpty()) {
+                        return Mono.just(outcome);
+                    }
+                    return incrementChangeSequence()
+                            .then(invalidationPublisher.publishAll(changed))
+                            .thenReturn(outcome);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UUID id) {
+        return databaseClient.sql("SELECT 1 FROM device WHERE id = :id")
+                .bind("id", id)
+                .fetch().first()
+                .hasElement();
+    }
+
+    @Override
+    public Mono<Long> currentChangeSequence() {
+        return databaseClient.sql("SELECT sequence_value FROM device_change_sequence WHERE id = :id")
+                .bind("id", DeviceChangeSequenceEntity.DEVICES)
+                .map(row -> row.get("sequence_value", Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    /*
+    Demand from the subscriber (ultimately the HTTP connection) drives the reads: the driver
+    fetches EXPORT_FETCH_SIZE rows per round trip and asks for more only when they have been
+    consumed, so a slow client slows the query instead of filling memory.
+    */
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<Device> streamAll() {
+        return databaseClient.sql(SELECT + " ORDER BY creation_time, id")
+                .filter(statement -> statement.fetchSize(EXPORT_FETCH_SIZE))
+                .map(ReactiveDeviceDao::mapRow)
+                .all();
+    }
+
+    @Override
+    public Mono<Device> findById(UUID id) {
+        return databaseClient.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveDeviceDao::mapRow)
+                .one();
+    }
+
+    @Override
+    public Flux<Device> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT + " WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveDeviceDao::mapRow)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> findVersionById(UUID id) {
+        return databaseClient.sql("SELECT version FROM device WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    // Same shape as JdbcDeviceQueryRepository.searchQuery, with named parameters
+    @Override
+    public Flux<Device> search(DeviceSearch search, DeviceCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (search.brand() != null) {
+            conditions.add("brand = :brand");
+            params.put("brand", search.brand());
+        }
+        if (search.state() != null) {
+            conditions.add("state = :state");
+            params.put("state", search.state().name());
+        }
+        if (search.createdAfter() != null) {
+            conditions.add("creation_time >= :createdAfter");
+            params.put("createdAfter", search.createdAfter());
+        }
+        if (search.createdBefore() != null) {
+            conditions.add("creation_time < :createdBefore");
+            params.put("createdBefore", search.createdBefore());
+        }
+        if (after != null) {
+            conditions.add("(creation_time, id) " + (search.descending() ? "<" : ">") + " (:afterTime, :afterId)");
+            params.put("afterTime", after.creationTime());
+            params.put("afterId", after.id());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(search.descending()
+                ? " ORDER BY creation_time DESC, id DESC LIMIT :limit"
+                : " ORDER BY creation_time, id LIMIT :limit");
+        params.put("limit", limit);
+        return databaseClient.sql(sql.toString())
+                .bindValues(params)
+                .map(ReactiveDeviceDao::mapRow)
+                .all();
+    }
+
+    static Device mapRow(Readable row) {
+        return new Device(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("brand", String.class),
+                DeviceState.valueOf(row.get("state", String.class)),
+                row.get("creation_time", Instant.class),
+                row.get("version", Long.class)
+        );
+    }
+
+    // Null values are bound as typed nulls so COALESCE keeps the stored column
+    private static DatabaseClient.GenericExecuteSpec bindNullable(
+            DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+}
@@ -0,0 +1,37 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+Non-blocking counterpart of DeviceRepositoryPort, used by the reactive profile.
+Same semantics: an empty Mono where the blocking port returns Optional.empty() or false.
+The brand, state and unfiltered pages are all expressed as a DeviceSearch.
+*/
+
+public interface ReactiveDeviceRepositoryPort {
+    Mono<Device> save(Device device);
+    Flux<Device> saveAll(List<Device> devices);
+    Mono<Device> findById(UUID id);
+    // Unknown ids are simply absent from the result, order is not guaranteed
+    Flux<Device> findAllByIds(Collection<UUID> ids);
+    Mono<Long> findVersionById(UUID id);
+    // Every device in (creationTime, id) order, read as fast as the subscriber requests
+    Flux<Device> streamAll();
+    Flux<Device> search(DeviceSearch search, DeviceCursor after, int limit);
+    // Single-statement writes guarded by state <> IN_USE; empty / false when no row matched
+    Mono<Device> updateIfNotInUse(UUID id, String name, String brand, DeviceState state);
+    Mono<Boolean> deleteIfNotInUse(UUID id);
+    Mono<DeviceStateChange> changeStateIfNotInUse(Collection<UUID> ids, DeviceState state);
+    Mono<Boolean> existsById(UUID id);
+    Mono<Long> currentChangeSequence();
+}
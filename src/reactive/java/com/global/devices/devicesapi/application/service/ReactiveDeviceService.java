@@ -0,0 +1,177 @@
+package com.global.devices.devicesapi.application.service;
+
+import com.global.devices.devicesapi.application.datasource.ReactiveDeviceRepositoryPort;
+import com.global.devices.devicesapi.application.usecase.ReactiveDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.validation.DeviceValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/*
+The four blocking services behind one reactive use case, with the same rules: single-statement
+IN_USE-guarded writes, and a lookup only when nothing matched to tell "missing" from "in use".
+There is no cache, id filter or lookup batcher on this path, every read goes to the database.
+*/
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDeviceService implements ReactiveDeviceUseCase {
+
+    private final ReactiveDeviceRepositoryPort repository;
+    private final DeviceValidator deviceValidator;
+
+    @Override
+    public Mono<DeviceUseCaseResponse> create(DeviceUseCaseRequest request) {
+        return repository.save(new Device(request.getName(), request.getBrand(), request.getState()))
+                .map(Device::toUseCaseResponse);
+    }
+
+    @Override
+    public Flux<DeviceUseCaseResponse> createAll(List<DeviceUseCaseRequest> requests) {
+        List<Device> devices = requests.stream()
+                .map(request -> new Device(request.getName(), request.getBrand(), request.getState()))
+                .toList();
+        return repository.saveAll(devices).map(Device::toUseCaseResponse);
+    }
+
+    @Override
+    public Mono<DeviceUseCaseResponse> findById(UUID deviceId) {
+        return repository.findById(deviceId)
+                .map(Device::toUseCaseResponse)
+                .switchIfEmpty(Mono.error(() -> DeviceNotFoundException.forId(deviceId)));
+    }
+
+    @Override
+    public Mono<Long> findVersion(UUID deviceId) {
+        return repository.findVersionById(deviceId);
+    }
+
+    @Override
+    public Mono<DeviceBatch> getByIds(List<UUID> deviceIds) {
+        var requested = new LinkedHashSet<>(deviceIds);
+        return repository.findAllByIds(requested)
+                .collectMap(Device::getId, Function.identity())
+                .map(found -> {
+                    List<DeviceUseCaseResponse> items = new ArrayList<>(found.size());
+                    List<UUID> missing = new ArrayList<>();
+                    for (UUID id : requested) {
+                        Device device = found.get(id);
+                        if (device == null) {
+                            missing.add(id);
+                        } else {
+                            items.add(device.toUseCaseResponse());
+                        }
+                    }
+                    return new DeviceBatch(items, missing);
+                });
+    }
+
+    // One extra row is fetched to learn whether a next page exists
+    @Override
+    public Mono<DevicePage> search(DeviceSearch search, DeviceCursor after, int limit) {
+        return repository.search(search, after, limit + 1)
+                .collectList()
+                .map(devices -> {
+                    if (devices.size() <= limit) {
+                        return new DevicePage(GetDeviceService.toUseCaseResponseList(devices), null);
+                    }
+                    List<Device> page = devices.subList(0, limit);
+                    return new DevicePage(GetDeviceService.toUseCaseResponseList(page),
+                            DeviceCursor.of(page.get(limit - 1)));
+                });
+    }
+
+    @Override
+    public Flux<DeviceUseCaseResponse> exportAll() {
+        return repository.streamAll().map(Device::toUseCaseResponse);
+    }
+
+    @Override
+    public Mono<Long> getChangeSequence() {
+        return repository.currentChangeSequence();
+    }
+
+    @Override
+    public Mono<DeviceUseCaseResponse> update(UUID deviceId, DeviceUseCaseRequest request) {
+        return repository.updateIfNotInUse(deviceId, request.getName(), request.getBrand(), request.getState())
+                .map(Device::toUseCaseResponse)
+                .switchIfEmpty(Mono.defer(() -> rejection(deviceId)));
+    }
+
+    @Override
+    public Mono<DeviceUseCaseResponse> patch(UUID deviceId, Map<String, Object> updatedFields) {
+        if (updatedFields.containsKey("creationTime")) {
+            return Mono.error(InvalidOperationException.creationTimeImmutable(deviceId));
+        }
+
+        // Fields left out of the patch are passed as null and keep their stored value
+        String name = (String) updatedFields.get("name");
+        String brand = (String) updatedFields.get("brand");
+        DeviceState state = null;
+        if (updatedFields.containsKey("state")) {
+            state = DeviceState.valueOf((String) updatedFields.get("state"));
+        }
+
+        return repository.updateIfNotInUse(deviceId, name, brand, state)
+                .map(Device::toUseCaseResponse)
+                .switchIfEmpty(Mono.defer(() -> rejection(deviceId)));
+    }
+
+    @Override
+    public Mono<BulkStateChangeResult> changeState(List<UUID> deviceIds, DeviceState state) {
+        // Duplicates are reported once, in the position of their first occurrence
+        var requested = new LinkedHashSet<>(deviceIds);
+        return repository.changeStateIfNotInUse(requested, state).map(outcome -> {
+            List<UUID> changed = new ArrayList<>();
+            List<UUID> missing = new ArrayList<>();
+            List<UUID> rejected = new ArrayList<>();
+            for (UUID id : requested) {
+                if (outcome.changed().contains(id)) {
+                    changed.add(id);
+                } else if (outcome.rejected().contains(id)) {
+                    rejected.add(id);
+                } else {
+                    missing.add(id);
+                }
+            }
+            return new BulkStateChangeResult(changed, missing, rejected);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteDevice(UUID deviceId) {
+        return repository.deleteIfNotInUse(deviceId)
+                .filter(deleted -> !deleted)
+                .flatMap(notDeleted -> rejection(deviceId))
+                .then();
+    }
+
+    // No row was written: the device is either missing or in use, only this path pays for the lookup
+    private <T> Mono<T> rejection(UUID deviceId) {
+        return repository.existsById(deviceId)
+                .flatMap(exists -> Mono.error(exists
+                        ? deviceValidator.inUse(deviceId)
+                        : DeviceNotFoundException.forId(deviceId)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.global.devices.devicesapi.application.usecase;
+
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Create, get, update and delete use cases of the reactive profile, errors are signalled downstream
+public interface ReactiveDeviceUseCase {
+    Mono<DeviceUseCaseResponse> create(DeviceUseCaseRequest request);
+    // Responses are in request order
+    Flux<DeviceUseCaseResponse> createAll(List<DeviceUseCaseRequest> requests);
+    Mono<DeviceUseCaseResponse> findById(UUID deviceId);
+    // Empty when the device does not exist
+    Mono<Long> findVersion(UUID deviceId);
+    Mono<DeviceBatch> getByIds(List<UUID> deviceIds);
+    // The unfiltered, brand and state pages are searches with one filter or none
+    Mono<DevicePage> search(DeviceSearch search, DeviceCursor after, int limit);
+    Flux<DeviceUseCaseResponse> exportAll();
+    Mono<Long> getChangeSequence();
+    Mono<DeviceUseCaseResponse> update(UUID deviceId, DeviceUseCaseRequest request);
+    Mono<DeviceUseCaseResponse> patch(UUID deviceId, Map<String, Object> updatedFields);
+    Mono<BulkStateChangeResult> changeState(List<UUID> deviceIds, DeviceState state);
+    Mono<Void> deleteDevice(UUID deviceId);
+}
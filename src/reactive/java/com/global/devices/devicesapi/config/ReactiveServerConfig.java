@@ -0,0 +1,22 @@
+package com.global.devices.devicesapi.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+Tomcat stays on the classpath for the servlet stack and Boot would otherwise prefer it for
+WebFlux too; the reactive profile runs on Netty's event loop instead. server.* settings
+(port, max-http-request-header-size) are applied to this factory by Boot's customizers.
+*/
+
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,152 @@
+package com.global.devices.devicesapi;
+
+import com.global.devices.devicesapi.application.datasource.DeviceCache;
+import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two application contexts (two "nodes") sharing one Postgres, talking through LISTEN/NOTIFY
+@Testcontainers(disabledWithoutDocker = true)
+class DeviceCacheInvalidationIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(DevicesApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "devices.cache.invalidation.enabled=true",
+                        "devices.cache.invalidation.poll-timeout=50ms",
+                        "devices.cache.invalidation.reconnect-backoff=100ms")
+                .run();
+    }
+
+    @Test
+    void writeOnOneNode_ShouldEvictEntryOnTheOtherNode() {
+        // Arrange
+        DeviceRepositoryWrapper repositoryA = nodeA.getBean(DeviceRepositoryWrapper.class);
+        DeviceRepositoryWrapper repositoryB = nodeB.getBean(DeviceRepositoryWrapper.class);
+        Device created = repositoryA.saveDevice(new Device("Sensor", "Acme", DeviceState.AVAILABLE));
+        assertEquals("Sensor", repositoryB.findById(created.getId()).orElseThrow().getName());
+
+        // Act
+        repositoryA.saveDevice(new Device(created.getId(), "Renamed", "Acme", DeviceState.AVAILABLE,
+                created.getCreationTime(), created.getVersion()));
+
+        // Assert
+        awaitTrue(() -> "Renamed".equals(repositoryB.findById(created.getId()).orElseThrow().getName()));
+    }
+
+    @Test
+    void deleteOnOneNode_ShouldEvictEntryOnTheOtherNode() {
+        // Arrange
+        DeviceRepositoryWrapper repositoryA = nodeA.getBean(DeviceRepositoryWrapper.class);
+        DeviceRepositoryWrapper repositoryB = nodeB.getBean(DeviceRepositoryWrapper.class);
+        Device created = repositoryA.saveDevice(new Device("Tablet", "Acme", DeviceState.INACTIVE));
+        assertTrue(repositoryB.findById(created.getId()).isPresent());
+
+        // Act
+        repositoryA.deleteDeviceById(created.getId());
+
+        // Assert
+        awaitTrue(() -> repositoryB.findById(created.getId()).isEmpty());
+    }
+
+    @Test
+    void listenerReconnect_ShouldFlushTheWholeCache() {
+        // Arrange
+        DeviceRepositoryWrapper repositoryB = nodeB.getBean(DeviceRepositoryWrapper.class);
+        DeviceCache cacheB = nodeB.getBean(DeviceCache.class);
+        Device created = nodeA.getBean(DeviceRepositoryWrapper.class)
+                .saveDevice(new Device("Phone", "Acme", DeviceState.AVAILABLE));
+        repositoryB.findById(created.getId());
+        assertTrue(cacheB.estimatedSize() > 0);
+
+        // Act: kill every listener connection, as a failover or network blip would
+        nodeA.getBean(JdbcTemplate.class).execute(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity "
+                        + "WHERE application_name = 'devices-api-invalidation-listener'");
+
+        // Assert
+        awaitTrue(() -> cacheB.estimatedSize() == 0);
+    }
+
+    @Test
+    void createOnOneNode_ShouldBeReadableOnTheOtherNodeRightAway() {
+        // Arrange
+        DeviceRepositoryWrapper repositoryB = nodeB.getBean(DeviceRepositoryWrapper.class);
+
+        // Act: read on node B before its listener can have seen the create
+        Device created = nodeA.getBean(DeviceRepositoryWrapper.class)
+                .saveDevice(new Device("Camera", "Acme", DeviceState.AVAILABLE));
+
+        // Assert
+        assertTrue(repositoryB.findById(created.getId()).isPresent());
+        assertEquals(Set.of(created.getId()), repositoryB.findAllByIds(List.of(created.getId())).keySet());
+        assertTrue(repositoryB.findVersionById(created.getId()).isPresent());
+    }
+
+    @Test
+    void createOnOneNode_ShouldPassTheOtherNodesIdFilter() {
+        // Arrange: node B has already seen the id missing (negative cache entry)
+        DeviceRepositoryWrapper repositoryB = nodeB.getBean(DeviceRepositoryWrapper.class);
+        Device device = new Device("Watch", "Acme", DeviceState.AVAILABLE);
+        assertTrue(repositoryB.findById(device.getId()).isEmpty());
+
+        // Act
+        nodeA.getBean(DeviceRepositoryWrapper.class).saveDevice(device);
+
+        // Assert
+        awaitTrue(() -> repositoryB.findById(device.getId()).isPresent());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+}
@@ -7,25 +7,40 @@ import com.global.devices.devicesapi.application.usecase.CreateDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.DeleteDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.GetDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.UpdateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceExportProperties;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +48,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 // Use WebMvcTest to test the controller layer in isolation
 // It auto-configures Spring MVC and provides MockMvc
 @WebMvcTest(DeviceController.class)
+@Import(DeviceExportProperties.class)
 public class DeviceControllerIntegrationTest {
 
     private static final String BASE_URL = "/devices-api/v1/devices";
@@ -55,6 +71,11 @@ public class DeviceControllerIntegrationTest {
     @MockBean
     private UpdateDeviceUseCase updateDeviceUseCase;
 
+    @BeforeEach
+    void readSnapshotsInline() {
+        when(getDeviceUseCase.readSnapshot(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     // Helper method to create a valid DeviceRequest
     private DeviceRequest createValidDeviceRequest() {
         return new DeviceRequest("Laptop", "Dell", DeviceState.AVAILABLE);
@@ -123,6 +144,42 @@ public class DeviceControllerIntegrationTest {
     }
 
 
+    // --- POST /devices/bulk ---
+    @Test
+    void createDevices_shouldReturn207WithPerItemResults_whenSomeItemsAreInvalid() throws Exception {
+        // Arrange
+        when(createDeviceUseCase.createAll(anyList())).thenReturn(List.of(createValidDeviceResponse()));
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+[
+    {"name": "bad", "state": "AVAILABLE"},
+    {"name": "Laptop", "brand": "Dell", "state": "AVAILABLE"}
+]
+"""))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[0].errors.brand").value("Brand is required"))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].device.id").value(DEVICE_ID.toString()));
+
+        verify(createDeviceUseCase, times(1)).createAll(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    void createDevices_shouldReturn400_whenRequestIsEmpty() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(createDeviceUseCase);
+    }
+
     // --- GET /devices/{id} ---
     @Test
     void getDeviceById_shouldReturn200AndDeviceResponse_whenFound() throws Exception {
@@ -141,6 +198,50 @@ public class DeviceControllerIntegrationTest {
         verify(getDeviceUseCase, times(1)).findById(eq(DEVICE_ID));
     }
 
+    @Test
+    void getDeviceById_shouldReturnETag_fromDeviceVersion() throws Exception {
+        // Arrange
+        DeviceUseCaseResponse expectedResponse = createValidDeviceResponse();
+        expectedResponse.setVersion(3L);
+        when(getDeviceUseCase.findById(eq(DEVICE_ID))).thenReturn(expectedResponse);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/{id}", DEVICE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void getDeviceById_shouldReturn304WithoutLoadingDevice_whenETagMatches() throws Exception {
+        // Arrange
+        when(getDeviceUseCase.findVersion(eq(DEVICE_ID))).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/{id}", DEVICE_ID)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(getDeviceUseCase, never()).findById(any());
+    }
+
+    @Test
+    void getDeviceById_shouldReturn200_whenETagIsStale() throws Exception {
+        // Arrange
+        DeviceUseCaseResponse expectedResponse = createValidDeviceResponse();
+        expectedResponse.setVersion(4L);
+        when(getDeviceUseCase.findVersion(eq(DEVICE_ID))).thenReturn(Optional.of(4L));
+        when(getDeviceUseCase.findById(eq(DEVICE_ID))).thenReturn(expectedResponse);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/{id}", DEVICE_ID)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.id").value(DEVICE_ID.toString()));
+    }
+
     @Test
     void getDeviceById_shouldReturn404_whenNotFound() throws Exception {
         // Arrange
@@ -167,7 +268,7 @@ public class DeviceControllerIntegrationTest {
 
         List<DeviceUseCaseResponse> deviceList = List.of(device1, device2);
 
-        when(getDeviceUseCase.getAll()).thenReturn(deviceList);
+        when(getDeviceUseCase.getPage(isNull(), eq(100))).thenReturn(new DevicePage(deviceList, null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -178,13 +279,13 @@ public class DeviceControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].name").value("Laptop"))
                 .andExpect(jsonPath("$[1].name").value("Desktop"));
 
-        verify(getDeviceUseCase, times(1)).getAll();
+        verify(getDeviceUseCase, times(1)).getPage(isNull(), eq(100));
     }
 
     @Test
     void getDevices_shouldReturn200AndEmptyList_whenNoneFound() throws Exception {
         // Arrange
-        when(getDeviceUseCase.getAll()).thenReturn(List.of());
+        when(getDeviceUseCase.getPage(isNull(), eq(100))).thenReturn(new DevicePage(List.of(), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -193,7 +294,114 @@ public class DeviceControllerIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(getDeviceUseCase, times(1)).getAll();
+        verify(getDeviceUseCase, times(1)).getPage(isNull(), eq(100));
+    }
+
+    @Test
+    void getDevices_shouldReturn304WithoutQuerying_whenSequenceUnchanged() throws Exception {
+        // Arrange
+        when(getDeviceUseCase.getChangeSequence()).thenReturn(9L);
+        when(getDeviceUseCase.getPage(isNull(), eq(100))).thenReturn(new DevicePage(List.of(), null));
+        String etag = mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(getDeviceUseCase, times(1)).getPage(isNull(), eq(100));
+        verify(getDeviceUseCase, times(2)).readSnapshot(any());
+    }
+
+    @Test
+    void getByBrand_shouldReturn200_whenSequenceMoved() throws Exception {
+        // Arrange
+        when(getDeviceUseCase.getChangeSequence()).thenReturn(9L, 10L);
+        when(getDeviceUseCase.getPageByBrand(eq("Dell"), isNull(), eq(100)))
+                .thenReturn(new DevicePage(List.of(createValidDeviceResponse()), null));
+        String etag = mockMvc.perform(get(BASE_URL).param("brand", "Dell"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL).param("brand", "Dell").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(getDeviceUseCase, times(2)).getPageByBrand(eq("Dell"), isNull(), eq(100));
+    }
+
+    @Test
+    void getDevices_shouldReturnNextCursorHeader_whenMorePagesExist() throws Exception {
+        // Arrange
+        DeviceCursor next = new DeviceCursor(Instant.parse("2025-01-01T00:00:00Z"), DEVICE_ID);
+        DeviceCursor after = new DeviceCursor(Instant.parse("2024-12-31T00:00:00Z"), NON_EXISTENT_ID);
+        when(getDeviceUseCase.getPage(eq(after), eq(1)))
+                .thenReturn(new DevicePage(List.of(createValidDeviceResponse()), next));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL).param("limit", "1").param("cursor", after.encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", next.encode()))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getDevices_shouldReturn400_whenCursorIsInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(getDeviceUseCase, never()).getPage(any(), anyInt());
+    }
+
+    // --- GET /devices/export ---
+    @Test
+    void exportDevices_shouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<DeviceUseCaseResponse> consumer = invocation.getArgument(0);
+            consumer.accept(createValidDeviceResponse());
+            consumer.accept(new DeviceUseCaseResponse(NON_EXISTENT_ID, "Phone", "Apple", DeviceState.IN_USE, Instant.now()));
+            return null;
+        }).when(getDeviceUseCase).exportAll(any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Laptop", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Phone", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    // --- GET /devices?ids={ids} ---
+    @Test
+    void getByIds_shouldReturnDevicesAndMissingIds() throws Exception {
+        // Arrange
+        when(getDeviceUseCase.getByIds(List.of(DEVICE_ID, NON_EXISTENT_ID)))
+                .thenReturn(new DeviceBatch(List.of(createValidDeviceResponse()), List.of(NON_EXISTENT_ID)));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL).param("ids", DEVICE_ID + "," + NON_EXISTENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(DEVICE_ID.toString()))
+                .andExpect(jsonPath("$.missing[0]").value(NON_EXISTENT_ID.toString()));
+    }
+
+    @Test
+    void getByIds_shouldReturn400_whenIdIsMalformed() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("ids", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getDeviceUseCase);
     }
 
     // --- GET /devices?brand={brand} ---
@@ -204,7 +412,7 @@ public class DeviceControllerIntegrationTest {
         DeviceUseCaseResponse device1 = createValidDeviceResponse();
         List<DeviceUseCaseResponse> filteredList = List.of(device1);
 
-        when(getDeviceUseCase.getByBrand(eq(brand))).thenReturn(filteredList);
+        when(getDeviceUseCase.getPageByBrand(eq(brand), isNull(), eq(100))).thenReturn(new DevicePage(filteredList, null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -214,7 +422,7 @@ public class DeviceControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].brand").value(brand));
 
-        verify(getDeviceUseCase, times(1)).getByBrand(eq(brand));
+        verify(getDeviceUseCase, times(1)).getPageByBrand(eq(brand), isNull(), eq(100));
     }
 
     // --- GET /devices?state={state} ---
@@ -225,7 +433,8 @@ public class DeviceControllerIntegrationTest {
         DeviceUseCaseResponse device1 = createValidDeviceResponse();
         List<DeviceUseCaseResponse> filteredList = List.of(device1);
 
-        when(getDeviceUseCase.getByState(eq(DeviceState.AVAILABLE))).thenReturn(filteredList);
+        when(getDeviceUseCase.getPageByState(eq(DeviceState.AVAILABLE), isNull(), eq(100)))
+                .thenReturn(new DevicePage(filteredList, null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -235,7 +444,43 @@ public class DeviceControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].state").value(state));
 
-        verify(getDeviceUseCase, times(1)).getByState(eq(DeviceState.AVAILABLE));
+        verify(getDeviceUseCase, times(1)).getPageByState(eq(DeviceState.AVAILABLE), isNull(), eq(100));
+    }
+
+    // --- GET /devices/search ---
+    @Test
+    void searchDevices_shouldCombineFiltersAndReturnNextCursor() throws Exception {
+        // Arrange
+        DeviceUseCaseResponse device = createValidDeviceResponse();
+        DeviceSearch search = new DeviceSearch("Dell", DeviceState.AVAILABLE,
+                Instant.parse("2025-12-01T00:00:00Z"), Instant.parse("2025-12-08T00:00:00Z"), DeviceSearch.Order.DESC);
+        DeviceCursor next = new DeviceCursor(device.getCreationTime(), DEVICE_ID);
+        when(getDeviceUseCase.search(search, null, 10)).thenReturn(new DevicePage(List.of(device), next));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("brand", "Dell")
+                        .param("state", "AVAILABLE")
+                        .param("createdAfter", "2025-12-01T00:00:00Z")
+                        .param("createdBefore", "2025-12-08T00:00:00Z")
+                        .param("order", "DESC")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", next.encode()))
+                .andExpect(jsonPath("$[0].brand").value("Dell"));
+
+        verify(getDeviceUseCase).search(search, null, 10);
+    }
+
+    @Test
+    void searchDevices_shouldReturn400_whenRangeIsInverted() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("createdAfter", "2025-12-08T00:00:00Z")
+                        .param("createdBefore", "2025-12-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+
+        verify(getDeviceUseCase, never()).search(any(), any(), anyInt());
     }
 
     // --- PUT /devices/{id} ---
@@ -260,6 +505,23 @@ public class DeviceControllerIntegrationTest {
         verify(updateDeviceUseCase, times(1)).update(eq(DEVICE_ID), any(DeviceUseCaseRequest.class));
     }
 
+    @Test
+    void updateDevice_shouldReturn400_whenFieldIsMissing() throws Exception {
+        // Act & Assert: PUT replaces the whole device, so a partial body is rejected
+        mockMvc.perform(put(BASE_URL + "/{id}", DEVICE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+{
+    "name": "Updated Laptop",
+    "state": "AVAILABLE"
+}
+"""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.brand").exists());
+
+        verify(updateDeviceUseCase, never()).update(any(), any());
+    }
+
     // --- PATCH /devices/{id} ---
     @Test
     void patchDevice_shouldReturn201AndPatchedDeviceResponse_whenSuccessful() throws Exception {
@@ -280,6 +542,35 @@ public class DeviceControllerIntegrationTest {
         verify(updateDeviceUseCase, times(1)).patch(eq(DEVICE_ID), eq(patchFields));
     }
 
+    // --- PATCH /devices/state ---
+    @Test
+    void changeState_shouldReturnIdsSplitByOutcome() throws Exception {
+        // Arrange
+        when(updateDeviceUseCase.changeState(List.of(DEVICE_ID, NON_EXISTENT_ID), DeviceState.INACTIVE))
+                .thenReturn(new BulkStateChangeResult(List.of(DEVICE_ID), List.of(NON_EXISTENT_ID), List.of()));
+
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "ids", List.of(DEVICE_ID, NON_EXISTENT_ID), "state", "INACTIVE"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0]").value(DEVICE_ID.toString()))
+                .andExpect(jsonPath("$.missing[0]").value(NON_EXISTENT_ID.toString()))
+                .andExpect(jsonPath("$.rejected").isEmpty());
+    }
+
+    @Test
+    void changeState_shouldReturn400_whenIdsAreMissing() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\": \"INACTIVE\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.ids").exists());
+
+        verifyNoInteractions(updateDeviceUseCase);
+    }
+
     // --- DELETE /devices/{id} ---
     @Test
     void deleteDevice_shouldReturn204_whenSuccessful() throws Exception {
@@ -0,0 +1,79 @@
+package com.global.devices.devicesapi;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.DeviceController;
+import com.global.devices.devicesapi.application.usecase.CreateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.DeleteDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.GetDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.UpdateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceExportProperties;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The MVC default async timeout is set far below the export's own timeout; an export that runs
+// past the default must still complete
+@WebMvcTest(DeviceController.class)
+@Import(DeviceExportProperties.class)
+@TestPropertySource(properties = {
+        "spring.mvc.async.request-timeout=200ms",
+        "devices.export.timeout=10s"
+})
+class DeviceExportTimeoutIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateDeviceUseCase createDeviceUseCase;
+    @MockBean
+    private GetDeviceUseCase getDeviceUseCase;
+    @MockBean
+    private DeleteDeviceUseCase deleteDeviceUseCase;
+    @MockBean
+    private UpdateDeviceUseCase updateDeviceUseCase;
+
+    @Test
+    void exportDevices_shouldOutliveTheDefaultAsyncTimeout() throws Exception {
+        // Arrange: three rows, 300ms apart
+        doAnswer(invocation -> {
+            Consumer<DeviceUseCaseResponse> consumer = invocation.getArgument(0);
+            for (int i = 0; i < 3; i++) {
+                Thread.sleep(300);
+                consumer.accept(new DeviceUseCaseResponse(UUID.randomUUID(), "Laptop " + i, "Dell",
+                        DeviceState.AVAILABLE, Instant.now()));
+            }
+            return null;
+        }).when(getDeviceUseCase).exportAll(any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/devices-api/v1/devices/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        assertEquals(10_000L, started.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(3, body.split("\n").length);
+    }
+}
@@ -0,0 +1,128 @@
+package com.global.devices.devicesapi;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ReplicaLagMonitor;
+import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Primary and "replica" as two independent Postgres databases, so what each one holds is known:
+a row present only on the replica shows which pool served a read.
+*/
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConfigurableApplicationContext application;
+    private static JdbcTemplate replica;
+
+    @BeforeAll
+    static void start() {
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()));
+        List.of("""
+                        CREATE TABLE device (
+                            id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, brand VARCHAR(255) NOT NULL,
+                            state VARCHAR(20) NOT NULL, creation_time TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                            version BIGINT DEFAULT 0 NOT NULL)""",
+                        "CREATE TABLE device_change_sequence (id SMALLINT PRIMARY KEY, sequence_value BIGINT NOT NULL)")
+                .forEach(replica::execute);
+        application = new SpringApplicationBuilder(DevicesApiApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + PRIMARY.getJdbcUrl(),
+                "--spring.datasource.username=" + PRIMARY.getUsername(),
+                "--spring.datasource.password=" + PRIMARY.getPassword(),
+                "--devices.replica.enabled=true",
+                "--devices.replica.url=" + REPLICA.getJdbcUrl(),
+                "--devices.replica.username=" + REPLICA.getUsername(),
+                "--devices.replica.password=" + REPLICA.getPassword(),
+                "--devices.replica.lag-check-interval=100ms");
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!application.getBean(ReplicaLagMonitor.class).isReplicaUsable()) {
+            assertTrue(System.nanoTime() < deadline, "Replica not usable within 10 seconds");
+            Thread.onSpinWait();
+        }
+    }
+
+    @AfterAll
+    static void stop() {
+        application.close();
+    }
+
+    @Test
+    void scans_ShouldBeServedByReplicaAndSingleDeviceReadsByPrimary() {
+        // Arrange
+        DeviceRepositoryWrapper repository = application.getBean(DeviceRepositoryWrapper.class);
+        Device onPrimary = repository.saveDevice(new Device("Primary only", "Routing", DeviceState.AVAILABLE));
+        insertIntoReplica("Replica only", "Routing");
+
+        // Act & Assert
+        assertEquals(List.of("Replica only"), names(repository.findByBrand("Routing")));
+        assertEquals("Primary only", repository.findById(onPrimary.getId()).orElseThrow().getName());
+        try (var primary = ReadRouting.requirePrimary()) {
+            assertEquals(List.of("Primary only"), names(repository.findByBrand("Routing")));
+        }
+    }
+
+    @Test
+    void writingClient_ShouldReadFromPrimaryWithinStickyWindow() throws Exception {
+        // Arrange
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) application).getWebServer().getPort();
+        insertIntoReplica("Replica copy", "Sticky");
+        HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(baseUrl + BASE_URL))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Fresh\",\"brand\":\"Sticky\",\"state\":\"AVAILABLE\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        String cookie = created.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+        URI byBrand = URI.create(baseUrl + BASE_URL + "?brand=Sticky");
+
+        // Act
+        String writer = client.send(HttpRequest.newBuilder(byBrand).header("Cookie", cookie).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        String anyoneElse = client.send(HttpRequest.newBuilder(byBrand).build(), HttpResponse.BodyHandlers.ofString()).body();
+
+        // Assert
+        assertTrue(writer.contains("Fresh"));
+        assertTrue(anyoneElse.contains("Replica copy"));
+    }
+
+    private static void insertIntoReplica(String name, String brand) {
+        replica.update("INSERT INTO device (id, name, brand, state, creation_time, version) VALUES (?, ?, ?, 'AVAILABLE', ?, 0)",
+                UUID.randomUUID(), name, brand, Timestamp.from(Instant.now()));
+    }
+
+    private static List<String> names(List<Device> devices) {
+        return devices.stream().map(Device::getName).toList();
+    }
+}
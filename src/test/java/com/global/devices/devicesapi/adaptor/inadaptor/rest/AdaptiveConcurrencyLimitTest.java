@@ -0,0 +1,105 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.config.DeviceConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // --- 1. Admission ---
+
+    @Test
+    void tryAcquire_ShouldRejectOnceLimitIsReachedAndAdmitAfterRelease() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties(5, 5, 200));
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(0)).isPresent();
+        }
+
+        // Act & Assert
+        assertThat(limit.tryAcquire(0)).isEmpty();
+        assertThat(limit.getInFlight()).isEqualTo(5);
+        limit.release(new AdaptiveConcurrencyLimit.Permit(0, 5), RTT);
+        assertThat(limit.tryAcquire(RTT)).isPresent();
+    }
+
+    // --- 2. Adaptation ---
+
+    @Test
+    void onSample_ShouldGrowWhileSaturatedAndLatencyIsSteady() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties(20, 5, 200));
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.getLimit());
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isGreaterThan(40);
+    }
+
+    @Test
+    void onSample_ShouldShrinkWhenLatencyClimbs() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties(100, 5, 200));
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 200);
+        }
+        int before = limit.getLimit();
+
+        // Act: the database slows down tenfold
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(RTT * 10, 200);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isLessThan(before / 2);
+    }
+
+    @Test
+    void onSample_ShouldNotGrowWhileMostPermitsAreIdle() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties(20, 5, 200));
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 3);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void onSample_ShouldStayWithinMinAndMaxLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit growing = new AdaptiveConcurrencyLimit(properties(20, 5, 30));
+        AdaptiveConcurrencyLimit shrinking = new AdaptiveConcurrencyLimit(properties(20, 5, 30));
+        shrinking.onSample(RTT, 30);
+
+        // Act: steady latency for one, latency that keeps climbing for the other
+        double rtt = RTT;
+        for (int i = 0; i < 60; i++) {
+            growing.onSample(RTT, 30);
+            shrinking.onSample((long) (rtt *= 1.2), 30);
+        }
+
+        // Assert
+        assertThat(growing.getLimit()).isEqualTo(30);
+        assertThat(shrinking.getLimit()).isEqualTo(5);
+    }
+
+    private static DeviceConcurrencyLimitProperties properties(int initial, int min, int max) {
+        var properties = new DeviceConcurrencyLimitProperties();
+        properties.setInitialLimit(initial);
+        properties.setMinLimit(min);
+        properties.setMaxLimit(max);
+        return properties;
+    }
+}
@@ -0,0 +1,98 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.global.devices.devicesapi.config.DeviceConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new DeviceConcurrencyLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(properties, meterRegistry,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    // --- 1. Rejection ---
+
+    @Test
+    void doFilter_ShouldRejectWith503WhileLaneIsAtItsLimit() throws Exception {
+        // Arrange: the first read is still running when the second arrives
+        var rejected = new MockHttpServletResponse();
+        FilterChain slowRead = (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/2"), rejected, (req, res) -> { });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/1"), new MockHttpServletResponse(), slowRead);
+
+        // Assert
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentAsString())
+                .contains("\"error\":\"Service Unavailable\"")
+                .contains("Too many concurrent read requests");
+        assertThat(meterRegistry.get("devices.http.concurrency.rejected").tag("group", "read").counter().count())
+                .isEqualTo(1.0);
+        assertThat(filter.limit(RequestLane.READ).getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_ShouldNotLetOneLaneStarveAnother() throws Exception {
+        // Arrange
+        var write = new MockHttpServletResponse();
+        FilterChain slowExport = (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("POST", BASE_URL), write, (req, res) -> { });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/export"), new MockHttpServletResponse(), slowExport);
+
+        // Assert
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("devices.http.concurrency.rejected").tag("group", "write").counter().count())
+                .isZero();
+    }
+
+    // --- 2. Permit lifetime and metrics ---
+
+    @Test
+    void doFilter_ShouldHoldPermitUntilAsyncResponseCompletes() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", BASE_URL + "/export");
+        request.setAsyncSupported(true);
+        var response = new MockHttpServletResponse();
+        var asyncContext = new AtomicReference<MockAsyncContext>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> asyncContext.set((MockAsyncContext) req.startAsync()));
+
+        // Assert
+        assertThat(meterRegistry.get("devices.http.concurrency.in-flight").tag("group", "bulk").gauge().value())
+                .isEqualTo(1.0);
+        asyncContext.get().complete();
+        assertThat(meterRegistry.get("devices.http.concurrency.in-flight").tag("group", "bulk").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("devices.http.concurrency.limit").tag("group", "bulk").gauge().value())
+                .isEqualTo(1.0);
+    }
+}
@@ -1,22 +1,30 @@
 package com.global.devices.devicesapi.adaptor.inadaptor.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.BulkCreateResponse;
 import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceRequest;
 import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
 import com.global.devices.devicesapi.application.usecase.CreateDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.DeleteDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.GetDeviceUseCase;
 import com.global.devices.devicesapi.application.usecase.UpdateDeviceUseCase;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.config.DeviceExportProperties;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -25,14 +33,24 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class DeviceControllerTest {
@@ -48,6 +66,15 @@ class DeviceControllerTest {
     @Mock
     private DeleteDeviceUseCase deleteDeviceUseCase;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private DeviceExportProperties exportProperties = new DeviceExportProperties();
+
     @InjectMocks
     private DeviceController deviceController;
 
@@ -60,6 +87,7 @@ class DeviceControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(getDeviceUseCase.readSnapshot(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
 
         deviceId = UUID.randomUUID();
 
@@ -103,17 +131,86 @@ class DeviceControllerTest {
 
     }
 
+    @Test
+    void createDevices_Should_call_createAll_once_for_valid_items()  {
+
+        when(createDeviceUseCase.createAll(anyList())).thenReturn(List.of(deviceUseCaseResponse, deviceUseCaseResponse));
+
+        ResponseEntity<BulkCreateResponse> response = deviceController.createDevices(List.of(deviceRequest, deviceRequest));
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(2, response.getBody().getCreated());
+        verify(createDeviceUseCase, times(1)).createAll(anyList());
+        verify(createDeviceUseCase, never()).create(any());
+    }
+
+    @Test
+    void exportDevices_Should_write_each_device_as_a_line() throws Exception {
+
+        doAnswer(invocation -> {
+            Consumer<DeviceUseCaseResponse> consumer = invocation.getArgument(0);
+            consumer.accept(deviceUseCaseResponse);
+            consumer.accept(deviceUseCaseResponse);
+            return null;
+        }).when(getDeviceUseCase).exportAll(any());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        deviceController.exportDevices(response).getCallable().call();
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(DeviceController.NDJSON_VALUE, response.getContentType());
+        assertEquals(deviceId.toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        verifyNoInteractions(createDeviceUseCase);
+    }
+
+    @Test
+    void exportDevices_Should_use_the_configured_timeout() {
+
+        exportProperties.setTimeout(Duration.ofMinutes(10));
+
+        WebAsyncTask<Void> task = deviceController.exportDevices(new MockHttpServletResponse());
+
+        assertEquals(Duration.ofMinutes(10).toMillis(), task.getTimeout());
+    }
+
+    @Test
+    void exportDevices_Should_carry_read_routing_to_the_async_thread() throws Exception {
+
+        AtomicBoolean replicaPreferred = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            try (ReadRouting.Scope ignored = ReadRouting.preferReplica()) {
+                replicaPreferred.set(ReadRouting.isReplicaPreferred());
+            }
+            return null;
+        }).when(getDeviceUseCase).exportAll(any());
+
+        WebAsyncTask<Void> task;
+        try (ReadRouting.Scope ignored = ReadRouting.requirePrimary()) {
+            task = deviceController.exportDevices(new MockHttpServletResponse());
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                task.getCallable().call();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).get();
+
+        assertFalse(replicaPreferred.get());
+    }
+
     @Test
     void getAllDevices_Should_call_getUseCase()  {
 
         List<DeviceUseCaseResponse> list = Collections.singletonList(deviceUseCaseResponse);
-        when(getDeviceUseCase.getAll()).thenReturn(list);
+        when(getDeviceUseCase.getPage(null, DeviceController.DEFAULT_PAGE_SIZE)).thenReturn(new DevicePage(list, null));
 
-        ResponseEntity<List<DeviceResponse>>  responseList = deviceController.getDevices();
+        ResponseEntity<List<DeviceResponse>>  responseList = deviceController.getDevices(null, null, null);
 
         assertNotNull(responseList);
         assertEquals(1, responseList.getBody().size());
-        verify(getDeviceUseCase).getAll();
+        verify(getDeviceUseCase).getPage(null, DeviceController.DEFAULT_PAGE_SIZE);
         verifyNoInteractions(updateDeviceUseCase);
         verifyNoInteractions(createDeviceUseCase);
         verifyNoInteractions(deleteDeviceUseCase);
@@ -126,7 +223,7 @@ class DeviceControllerTest {
 
         when(getDeviceUseCase.findById(deviceId)).thenReturn(deviceUseCaseResponse);
 
-        ResponseEntity<DeviceResponse> response = deviceController.getDeviceById(deviceId);
+        ResponseEntity<DeviceResponse> response = deviceController.getDeviceById(deviceId, null);
 
         assertNotNull(response);
         assertEquals(deviceUseCaseResponse.getId(), response.getBody().getId());
@@ -141,13 +238,14 @@ class DeviceControllerTest {
     void getDevices_byState_Should_call_getUseCase()  {
 
         List<DeviceUseCaseResponse> list = Collections.singletonList(deviceUseCaseResponse);
-        when(getDeviceUseCase.getByState( DeviceState.IN_USE)).thenReturn(list);
+        when(getDeviceUseCase.getPageByState(DeviceState.IN_USE, null, DeviceController.DEFAULT_PAGE_SIZE))
+                .thenReturn(new DevicePage(list, null));
 
-        ResponseEntity<List<DeviceResponse>> responseList = deviceController.getByState(DeviceState.IN_USE);
+        ResponseEntity<List<DeviceResponse>> responseList = deviceController.getByState(DeviceState.IN_USE, null, null, null);
 
         assertNotNull(responseList);
         assertEquals(1, responseList.getBody().size());
-        verify(getDeviceUseCase).getByState(DeviceState.IN_USE);
+        verify(getDeviceUseCase).getPageByState(DeviceState.IN_USE, null, DeviceController.DEFAULT_PAGE_SIZE);
         verifyNoInteractions(updateDeviceUseCase);
         verifyNoInteractions(createDeviceUseCase);
         verifyNoInteractions(deleteDeviceUseCase);
@@ -157,19 +255,44 @@ class DeviceControllerTest {
     void getDevices_byBrand_Should_call_getUseCase()  {
 
         List<DeviceUseCaseResponse> list = Collections.singletonList(deviceUseCaseResponse);
-        when(getDeviceUseCase.getByBrand("brand")).thenReturn(list);
+        when(getDeviceUseCase.getPageByBrand("brand", null, DeviceController.DEFAULT_PAGE_SIZE))
+                .thenReturn(new DevicePage(list, null));
 
-        ResponseEntity<List<DeviceResponse>> responseList = deviceController.getByBrand("brand");
+        ResponseEntity<List<DeviceResponse>> responseList = deviceController.getByBrand("brand", null, null, null);
 
 
         assertNotNull(responseList);
         assertEquals(1, responseList.getBody().size());
-        verify(getDeviceUseCase).getByBrand("brand");
+        verify(getDeviceUseCase).getPageByBrand("brand", null, DeviceController.DEFAULT_PAGE_SIZE);
         verifyNoInteractions(updateDeviceUseCase);
         verifyNoInteractions(createDeviceUseCase);
         verifyNoInteractions(deleteDeviceUseCase);
     }
 
+    @Test
+    void searchDevices_Should_pass_combined_filters_to_getUseCase()  {
+        Instant after = Instant.parse("2025-12-01T00:00:00Z");
+        Instant before = Instant.parse("2025-12-08T00:00:00Z");
+        DeviceSearch search = new DeviceSearch("brand", DeviceState.AVAILABLE, after, before, DeviceSearch.Order.DESC);
+        when(getDeviceUseCase.search(search, null, 20))
+                .thenReturn(new DevicePage(Collections.singletonList(deviceUseCaseResponse), null));
+
+        ResponseEntity<List<DeviceResponse>> responseList = deviceController.searchDevices("brand", DeviceState.AVAILABLE,
+                after, before, DeviceSearch.Order.DESC, null, 20, null);
+
+        assertEquals(1, responseList.getBody().size());
+        verify(getDeviceUseCase).search(search, null, 20);
+    }
+
+    @Test
+    void searchDevices_Should_reject_inverted_range()  {
+        Instant now = Instant.now();
+
+        assertThrows(InvalidOperationException.class, () -> deviceController.searchDevices(null, null,
+                now, now.minusSeconds(60), DeviceSearch.Order.ASC, null, null, null));
+        verify(getDeviceUseCase, never()).search(any(), any(), anyInt());
+    }
+
     @Test
     void updateDevice__Should_call_updateUseCase()  {
         when(updateDeviceUseCase.update(deviceId,deviceRequest.toUseCaseRequest())).thenReturn(deviceUseCaseResponse);
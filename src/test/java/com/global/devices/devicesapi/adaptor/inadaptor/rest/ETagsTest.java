@@ -0,0 +1,30 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void strong_ShouldQuoteVersion() {
+        assertEquals("\"12\"", ETags.strong(12));
+    }
+
+    @Test
+    void weak_ShouldDependOnSequenceAndQuery() {
+        assertTrue(ETags.weak(5, "brand", "Dell").startsWith("W/\"5-"));
+        assertEquals(ETags.weak(5, "brand", "Dell"), ETags.weak(5, "brand", "Dell"));
+        assertNotEquals(ETags.weak(5, "brand", "Dell"), ETags.weak(5, "brand", "HP"));
+        assertNotEquals(ETags.weak(5, "all"), ETags.weak(6, "all"));
+    }
+
+    @Test
+    void matches_ShouldHandleListsWildcardAndWeakPrefix() {
+        assertTrue(ETags.matches("\"1\", \"12\"", "\"12\""));
+        assertTrue(ETags.matches("W/\"12\"", "\"12\""));
+        assertTrue(ETags.matches("*", "\"12\""));
+        assertFalse(ETags.matches("\"11\"", "\"12\""));
+        assertFalse(ETags.matches(null, "\"12\""));
+    }
+}
@@ -0,0 +1,103 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.global.devices.devicesapi.config.DeviceLoadSheddingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new DeviceLoadSheddingProperties();
+        properties.setBulk(new DeviceLoadSheddingProperties.Lane(1, 0, Duration.ofMillis(20)));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new LoadSheddingFilter(properties, meterRegistry,
+                new ObjectMapper().registerModule(new JavaTimeModule()), clock::get);
+    }
+
+    // --- 1. Priority ---
+
+    @Test
+    void doFilter_ShouldShedLowerLanesFirstWhenReadsQueue() throws Exception {
+        // Arrange: single-device reads waited 60 ms throughout the last interval
+        filter.lane(RequestLane.READ).recordWait(TimeUnit.MILLISECONDS.toNanos(60));
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        var bulk = new MockHttpServletResponse();
+        var list = new MockHttpServletResponse();
+        var write = new MockHttpServletResponse();
+        var read = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("PATCH", BASE_URL + "/state"), bulk, (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL), list, (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("POST", BASE_URL), write, (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/42"), read, (req, res) -> { });
+
+        // Assert: 60 ms is past the bulk (20 ms) and list (50 ms) thresholds only
+        assertThat(bulk.getStatus()).isEqualTo(503);
+        assertThat(list.getStatus()).isEqualTo(503);
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(read.getStatus()).isEqualTo(200);
+        assertThat(bulk.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(bulk.getContentAsString()).contains("bulk requests are shed");
+        assertThat(meterRegistry.get("devices.http.lanes.shed").tags("lane", "list", "reason", "pressure")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doFilter_ShouldNotShedReadsForDelayInLowerLanes() throws Exception {
+        // Arrange
+        filter.lane(RequestLane.BULK).recordWait(TimeUnit.SECONDS.toNanos(5));
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        var read = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/42"), read, (req, res) -> { });
+
+        // Assert
+        assertThat(read.getStatus()).isEqualTo(200);
+    }
+
+    // --- 2. Bounded lanes ---
+
+    @Test
+    void doFilter_ShouldShedWhenLaneIsFullWithoutTouchingOtherLanes() throws Exception {
+        // Arrange: a second bulk call and a read arrive while the only bulk slot is taken
+        var secondBulk = new MockHttpServletResponse();
+        var read = new MockHttpServletResponse();
+        FilterChain runningBulk = (request, response) -> {
+            assertThat(meterRegistry.get("devices.http.lanes.active").tag("lane", "bulk").gauge().value())
+                    .isEqualTo(1.0);
+            filter.doFilter(new MockHttpServletRequest("POST", BASE_URL + "/bulk"), secondBulk, (req, res) -> { });
+            filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/42"), read, (req, res) -> { });
+        };
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/export"), new MockHttpServletResponse(), runningBulk);
+
+        // Assert
+        assertThat(secondBulk.getStatus()).isEqualTo(503);
+        assertThat(read.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("devices.http.lanes.shed").tags("lane", "bulk", "reason", "queue-full")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("devices.http.lanes.active").tag("lane", "bulk").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.config.DeviceLoadSheddingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriorityLaneTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // --- 1. Bounded execution ---
+
+    @Test
+    void enter_ShouldAdmitUpToMaxConcurrencyThenTimeOutWaiters() {
+        // Arrange
+        PriorityLane lane = lane(2, 1, Duration.ofMillis(10));
+
+        // Act & Assert
+        assertThat(lane.enter()).isEqualTo(PriorityLane.Entry.ADMITTED);
+        assertThat(lane.enter()).isEqualTo(PriorityLane.Entry.ADMITTED);
+        assertThat(lane.enter()).isEqualTo(PriorityLane.Entry.TIMED_OUT);
+        assertThat(lane.getActive()).isEqualTo(2);
+        assertThat(lane.getQueued()).isZero();
+        lane.exit();
+        assertThat(lane.enter()).isEqualTo(PriorityLane.Entry.ADMITTED);
+    }
+
+    @Test
+    void enter_ShouldRejectRightAwayWhenQueueIsFull() {
+        // Arrange
+        PriorityLane lane = lane(1, 0, Duration.ofSeconds(10));
+        lane.enter();
+
+        // Act & Assert
+        assertThat(lane.enter()).isEqualTo(PriorityLane.Entry.QUEUE_FULL);
+    }
+
+    // --- 2. Queueing delay ---
+
+    @Test
+    void queueDelayNanos_ShouldBeShortestWaitOfPreviousInterval() {
+        // Arrange
+        PriorityLane lane = lane(1, 1, Duration.ofMillis(50));
+        lane.recordWait(millis(80));
+        lane.recordWait(millis(30));
+
+        // Act
+        clock.addAndGet(INTERVAL.toNanos());
+
+        // Assert
+        assertThat(lane.queueDelayNanos()).isEqualTo(millis(30));
+        assertThat(lane.isOverwhelmedBy(lane.queueDelayNanos())).isFalse();
+        assertThat(lane.isOverwhelmedBy(millis(50))).isTrue();
+    }
+
+    @Test
+    void queueDelayNanos_ShouldIgnoreBurstThatDrainedWithinInterval() {
+        // Arrange
+        PriorityLane lane = lane(1, 1, Duration.ofMillis(50));
+        lane.recordWait(millis(80));
+        lane.recordWait(0);
+
+        // Act
+        clock.addAndGet(INTERVAL.toNanos());
+
+        // Assert
+        assertThat(lane.queueDelayNanos()).isZero();
+    }
+
+    @Test
+    void queueDelayNanos_ShouldDropToZeroAfterQuietInterval() {
+        // Arrange
+        PriorityLane lane = lane(1, 1, Duration.ofMillis(50));
+        lane.recordWait(millis(80));
+        clock.addAndGet(INTERVAL.toNanos());
+        assertThat(lane.queueDelayNanos()).isEqualTo(millis(80));
+
+        // Act
+        clock.addAndGet(INTERVAL.toNanos());
+
+        // Assert
+        assertThat(lane.queueDelayNanos()).isZero();
+    }
+
+    private PriorityLane lane(int maxConcurrency, int maxQueueSize, Duration maxQueueTime) {
+        return new PriorityLane(new DeviceLoadSheddingProperties.Lane(maxConcurrency, maxQueueSize, maxQueueTime),
+                INTERVAL, clock::get);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
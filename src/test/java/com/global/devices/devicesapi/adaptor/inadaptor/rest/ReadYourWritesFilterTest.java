@@ -0,0 +1,75 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void doFilter_ShouldHandWritingClientStickyCookie() throws Exception {
+        // Arrange
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("PATCH", BASE_URL + "/42"), response, (req, res) -> { });
+
+        // Assert
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie.getValue()).isEqualTo("1005000");
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(cookie.getPath()).isEqualTo("/devices-api");
+    }
+
+    @Test
+    void doFilter_ShouldKeepReadsOnPrimaryWithinWindowOnly() throws Exception {
+        // Arrange
+        var replicaAllowed = new AtomicBoolean();
+        FilterChain scan = (request, response) -> {
+            try (var replica = ReadRouting.preferReplica()) {
+                replicaAllowed.set(ReadRouting.isReplicaPreferred());
+            }
+        };
+        var read = new MockHttpServletRequest("GET", BASE_URL);
+        read.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "1005000"));
+
+        // Act & Assert
+        filter.doFilter(read, new MockHttpServletResponse(), scan);
+        assertThat(replicaAllowed).isFalse();
+        clock.set(1_005_000);
+        filter.doFilter(read, new MockHttpServletResponse(), scan);
+        assertThat(replicaAllowed).isTrue();
+    }
+
+    @Test
+    void doFilter_ShouldIgnoreMalformedCookie() throws Exception {
+        // Arrange
+        var replicaAllowed = new AtomicBoolean();
+        var read = new MockHttpServletRequest("GET", BASE_URL);
+        read.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+
+        // Act
+        filter.doFilter(read, new MockHttpServletResponse(), (request, response) -> {
+            try (var replica = ReadRouting.preferReplica()) {
+                replicaAllowed.set(ReadRouting.isReplicaPreferred());
+            }
+        });
+
+        // Assert
+        assertThat(replicaAllowed).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLaneTest {
+
+    private static final String BASE_URL = "/devices-api/v1/devices";
+
+    @Test
+    void of_ShouldKeepSingleDeviceReadsApartFromListsWritesAndBulkCalls() {
+        assertThat(RequestLane.of(new MockHttpServletRequest("GET", BASE_URL + "/42"))).isEqualTo(RequestLane.READ);
+        assertThat(RequestLane.of(new MockHttpServletRequest("HEAD", BASE_URL + "/42"))).isEqualTo(RequestLane.READ);
+        assertThat(RequestLane.of(new MockHttpServletRequest("GET", BASE_URL))).isEqualTo(RequestLane.LIST);
+        assertThat(RequestLane.of(new MockHttpServletRequest("GET", BASE_URL + "/search"))).isEqualTo(RequestLane.LIST);
+        assertThat(RequestLane.of(new MockHttpServletRequest("PATCH", BASE_URL + "/42"))).isEqualTo(RequestLane.WRITE);
+        assertThat(RequestLane.of(new MockHttpServletRequest("POST", BASE_URL))).isEqualTo(RequestLane.WRITE);
+        assertThat(RequestLane.of(new MockHttpServletRequest("POST", BASE_URL + "/bulk"))).isEqualTo(RequestLane.BULK);
+        assertThat(RequestLane.of(new MockHttpServletRequest("PATCH", BASE_URL + "/state"))).isEqualTo(RequestLane.BULK);
+        assertThat(RequestLane.of(new MockHttpServletRequest("GET", BASE_URL + "/export"))).isEqualTo(RequestLane.BULK);
+    }
+
+    @Test
+    void of_ShouldTreatIdsLookupAsList() {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", BASE_URL);
+        request.setParameter("ids", "1,2,3");
+
+        // Act & Assert
+        assertThat(RequestLane.of(request)).isEqualTo(RequestLane.LIST);
+    }
+
+    @Test
+    void outranks_ShouldOrderLanesByPriority() {
+        assertThat(RequestLane.READ.outranks(RequestLane.WRITE)).isTrue();
+        assertThat(RequestLane.LIST.outranks(RequestLane.BULK)).isTrue();
+        assertThat(RequestLane.BULK.outranks(RequestLane.READ)).isFalse();
+        assertThat(RequestLane.READ.outranks(RequestLane.READ)).isFalse();
+    }
+}
@@ -5,6 +5,7 @@ import com.global.devices.devicesapi.domain.model.DeviceState;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,4 +44,23 @@ class DeviceResponseTest {
         assertEquals(expectedCreationTime, responseDto.getCreationTime(), "CreationTime field must be mapped correctly.");
     }
 
-}
\ No newline at end of file
+    @Test
+    void fromList_ShouldMapEveryElementInOrder() {
+        // Arrange
+        DeviceUseCaseResponse first = DeviceUseCaseResponse.builder().id(UUID.randomUUID()).name("A").build();
+        DeviceUseCaseResponse second = DeviceUseCaseResponse.builder().id(UUID.randomUUID()).name("B").build();
+
+        // Act
+        List<DeviceResponse> responses = DeviceResponse.fromList(List.of(first, second));
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), responses.stream().map(DeviceResponse::getId).toList());
+    }
+
+    @Test
+    void fromList_ShouldReturnEmptyListForNullOrEmptyInput() {
+        // Act & Assert
+        assertTrue(DeviceResponse.fromList(null).isEmpty());
+        assertTrue(DeviceResponse.fromList(List.of()).isEmpty());
+    }
+}
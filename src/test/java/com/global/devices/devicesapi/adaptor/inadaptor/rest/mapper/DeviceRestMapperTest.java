@@ -0,0 +1,41 @@
+package com.global.devices.devicesapi.adaptor.inadaptor.rest.mapper;
+
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceRequest;
+import com.global.devices.devicesapi.adaptor.inadaptor.rest.dto.DeviceResponse;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceRestMapperTest {
+
+    private final DeviceRestMapper mapper = DeviceRestMapper.INSTANCE;
+
+    @Test
+    void toUseCaseRequest_ShouldMapAllFields() {
+        // Act
+        DeviceUseCaseRequest request = mapper.toUseCaseRequest(new DeviceRequest("Laptop", "Dell", DeviceState.AVAILABLE));
+
+        // Assert
+        assertEquals(new DeviceUseCaseRequest("Laptop", "Dell", DeviceState.AVAILABLE), request);
+    }
+
+    @Test
+    void toResponse_ShouldMapAllFieldsExceptVersion() {
+        // Arrange
+        DeviceUseCaseResponse device = new DeviceUseCaseResponse(UUID.randomUUID(), "Laptop", "Dell",
+                DeviceState.IN_USE, Instant.now(), 7L);
+
+        // Act
+        DeviceResponse response = mapper.toResponse(device);
+
+        // Assert
+        assertEquals(new DeviceResponse(device.getId(), "Laptop", "Dell", DeviceState.IN_USE,
+                device.getCreationTime()), response);
+    }
+}
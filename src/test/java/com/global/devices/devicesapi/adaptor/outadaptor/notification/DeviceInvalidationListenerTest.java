@@ -0,0 +1,123 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.notification;
+
+import com.global.devices.devicesapi.application.datasource.DeviceCache;
+import com.global.devices.devicesapi.application.datasource.DeviceIdFilter;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceInvalidationListenerTest {
+
+    @Mock
+    private DeviceCache deviceCache;
+
+    @Mock
+    private DeviceIdFilter deviceIdFilter;
+
+    @Mock
+    private DeviceInvalidationPublisher publisher;
+
+    private DeviceInvalidationListener listener;
+    private final UUID DEVICE_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(publisher.getNodeId()).thenReturn("local");
+        listener = new DeviceInvalidationListener(new DataSourceProperties(), new DeviceCacheProperties(),
+                deviceCache, deviceIdFilter, publisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void handle_ShouldEvictDeviceWrittenByAnotherNode() {
+        // Act
+        listener.handle("remote:" + DEVICE_ID);
+
+        // Assert
+        verify(deviceCache, times(1)).evict(DEVICE_ID);
+    }
+
+    @Test
+    void handle_ShouldAddDeviceWrittenByAnotherNodeToIdFilter() {
+        // Act: the write may be a create this node has never seen
+        listener.handle("remote:" + DEVICE_ID);
+
+        // Assert
+        verify(deviceIdFilter, times(1)).add(DEVICE_ID);
+    }
+
+    @Test
+    void handle_ShouldIgnoreOwnWrites() {
+        // Act
+        listener.handle("local:" + DEVICE_ID);
+
+        // Assert
+        verifyNoInteractions(deviceCache, deviceIdFilter);
+    }
+
+    @Test
+    void handle_ShouldIgnoreMalformedMessages() {
+        // Act
+        listener.handle("garbage");
+        listener.handle("remote:not-a-uuid");
+
+        // Assert
+        verifyNoInteractions(deviceCache);
+    }
+
+    @Test
+    void constructor_ShouldRejectChannelThatIsNotAPlainIdentifier() {
+        // Arrange
+        DeviceCacheProperties properties = new DeviceCacheProperties();
+        properties.getInvalidation().setChannel("device_invalidation; DROP TABLE device");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new DeviceInvalidationListener(new DataSourceProperties(),
+                properties, deviceCache, deviceIdFilter, publisher, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void connectionProperties_ShouldEnableKeepAliveAndSocketTimeout() {
+        // Arrange
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUsername("admin");
+        dataSourceProperties.setPassword("password");
+        DeviceInvalidationListener configured = new DeviceInvalidationListener(dataSourceProperties,
+                new DeviceCacheProperties(), deviceCache, deviceIdFilter, publisher, new SimpleMeterRegistry());
+
+        // Act
+        Properties properties = configured.connectionProperties();
+
+        // Assert
+        assertEquals("true", properties.getProperty("tcpKeepAlive"));
+        assertEquals("30", properties.getProperty("socketTimeout"));
+    }
+
+    @Test
+    void checkAlive_ShouldFailOnDeadConnection() throws SQLException {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute("SELECT 1")).thenThrow(new SQLException("An I/O error occurred while sending to the backend"));
+
+        // Act & Assert: the listen loop treats this like any lost connection and reconnects
+        assertThrows(SQLException.class, () -> DeviceInvalidationListener.checkAlive(connection));
+        verify(statement, times(1)).close();
+    }
+}
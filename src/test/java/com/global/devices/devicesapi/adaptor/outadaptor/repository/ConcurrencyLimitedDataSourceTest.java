@@ -0,0 +1,137 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource pool;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(pool, "test", 2, Duration.ofMillis(50), meterRegistry);
+    }
+
+    // --- 1. Permits ---
+
+    @Test
+    void getConnection_ShouldHoldPermitUntilClosed() throws SQLException {
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertEquals(1, dataSource.availablePermits());
+        connection.close();
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void close_ShouldReleaseOnlyOnceAndCloseThePooledConnection() throws SQLException {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+        Connection connection = dataSource.getConnection();
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        assertEquals(2, dataSource.availablePermits());
+        verify(pooled, times(1)).close();
+    }
+
+    @Test
+    void close_ShouldReleasePermitEvenWhenPooledCloseFails() throws SQLException {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        doThrow(new SQLException("broken")).when(pooled).close();
+        when(pool.getConnection()).thenReturn(pooled);
+        Connection connection = dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLException.class, connection::close);
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void getConnection_ShouldReleasePermitWhenPoolFails() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    // --- 2. Waiting beyond the limit ---
+
+    @Test
+    void getConnection_ShouldFailAfterAcquireTimeoutWhenAllPermitsAreHeld() throws SQLException {
+        // Arrange
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("devices.jdbc.permits.rejected").counter().count());
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_ShouldHandPermitToWaitingVirtualThread() throws Exception {
+        // Arrange
+        var patientRegistry = new SimpleMeterRegistry();
+        var patient = new ConcurrencyLimitedDataSource(pool, "test", 1, Duration.ofSeconds(5), patientRegistry);
+        Connection held = patient.getConnection();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            Future<Connection> waiting = executor.submit(() -> patient.getConnection());
+            while (patientRegistry.get("devices.jdbc.permits.waiting").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+            held.close();
+
+            // Assert
+            assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(0, patient.availablePermits());
+        }
+    }
+
+    // --- 3. Delegation ---
+
+    @Test
+    void connection_ShouldDelegateOtherCallsAndKeepIdentityEquality() throws SQLException {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        when(pooled.getAutoCommit()).thenReturn(true);
+        when(pool.getConnection()).thenReturn(pooled);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertTrue(connection.getAutoCommit());
+        assertEquals(connection, connection);
+        assertNotEquals(connection, pooled);
+    }
+}
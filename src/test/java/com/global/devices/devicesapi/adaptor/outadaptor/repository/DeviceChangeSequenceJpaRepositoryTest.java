@@ -0,0 +1,36 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceChangeSequenceEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+class DeviceChangeSequenceJpaRepositoryTest {
+
+    @Autowired
+    private DeviceChangeSequenceJpaRepository repository;
+
+    // increment is a Postgres upsert; it is covered by DeviceDaoPostgresTest
+
+    @Test
+    void findSequenceValue_ShouldBeEmptyWhenRowIsMissing() {
+        // Act & Assert
+        assertThat(repository.findSequenceValue(DeviceChangeSequenceEntity.DEVICES)).isEmpty();
+    }
+
+    @Test
+    void findSequenceValue_ShouldReturnStoredValue() {
+        // Arrange
+        repository.saveAndFlush(new DeviceChangeSequenceEntity(DeviceChangeSequenceEntity.DEVICES, 4L));
+
+        // Act & Assert
+        assertThat(repository.findSequenceValue(DeviceChangeSequenceEntity.DEVICES)).contains(4L);
+    }
+}
@@ -0,0 +1,188 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.DeviceInvalidationPublisher;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Native SQL paths (RETURNING, rewritten batch inserts) run against a real Postgres
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "devices.cache.invalidation.enabled=true"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DeviceDao.class, JpaDeviceQueryRepository.class, DeviceInvalidationPublisher.class, DeviceCacheProperties.class, DeviceBulkProperties.class})
+@Testcontainers(disabledWithoutDocker = true)
+class DeviceDaoPostgresTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DeviceDao deviceDao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // --- Conditional update ---
+
+    @Test
+    void updateIfNotInUse_ShouldUpdateAndReturnRowWithBumpedVersion() {
+        // Arrange
+        Device created = deviceDao.save(new Device("Laptop", "Dell", DeviceState.AVAILABLE));
+
+        // Act
+        Optional<Device> updated = deviceDao.updateIfNotInUse(created.getId(), "Laptop 2", null, DeviceState.INACTIVE);
+
+        // Assert
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getName()).isEqualTo("Laptop 2");
+        assertThat(updated.get().getBrand()).isEqualTo("Dell");
+        assertThat(updated.get().getState()).isEqualTo(DeviceState.INACTIVE);
+        assertThat(updated.get().getVersion()).isEqualTo(created.getVersion() + 1);
+    }
+
+    @Test
+    void updateIfNotInUse_ShouldLeaveInUseDeviceUntouched() {
+        // Arrange
+        Device created = deviceDao.save(new Device("Phone", "Apple", DeviceState.IN_USE));
+
+        // Act
+        Optional<Device> updated = deviceDao.updateIfNotInUse(created.getId(), "Other", null, null);
+
+        // Assert
+        assertThat(updated).isEmpty();
+        assertThat(deviceDao.existsById(created.getId())).isTrue();
+    }
+
+    @Test
+    void replaceIfNotInUse_ShouldOverwriteEveryColumn() {
+        // Arrange
+        Device created = deviceDao.save(new Device("Laptop", "Dell", DeviceState.AVAILABLE));
+
+        // Act
+        Optional<Device> replaced = deviceDao.replaceIfNotInUse(created.getId(), "Tablet", "Lenovo", DeviceState.INACTIVE);
+
+        // Assert
+        assertThat(replaced).get().extracting(Device::getName, Device::getBrand, Device::getState)
+                .containsExactly("Tablet", "Lenovo", DeviceState.INACTIVE);
+    }
+
+    // --- Conditional delete ---
+
+    @Test
+    void deleteIfNotInUse_ShouldOnlyDeleteDevicesThatAreNotInUse() {
+        // Arrange
+        Device available = deviceDao.save(new Device("Tablet", "Acme", DeviceState.AVAILABLE));
+        Device inUse = deviceDao.save(new Device("Sensor", "Acme", DeviceState.IN_USE));
+
+        // Act & Assert
+        assertThat(deviceDao.deleteIfNotInUse(available.getId())).isTrue();
+        assertThat(deviceDao.deleteIfNotInUse(inUse.getId())).isFalse();
+        assertThat(deviceDao.existsById(available.getId())).isFalse();
+        assertThat(deviceDao.existsById(inUse.getId())).isTrue();
+    }
+
+    // --- Batch insert ---
+
+    @Test
+    void saveAll_ShouldInsertEveryDeviceAcrossSeveralChunks() {
+        // Arrange: more rows than one chunk
+        List<Device> devices = IntStream.range(0, 1_201)
+                .mapToObj(i -> new Device("Device " + i, "Bulk", DeviceState.AVAILABLE))
+                .toList();
+
+        // Act
+        List<Device> saved = deviceDao.saveAll(devices);
+
+        // Assert
+        assertThat(saved).hasSize(1_201);
+        assertThat(deviceDao.findByBrand("Bulk")).hasSize(1_201);
+        assertThat(deviceDao.findById(devices.get(600).getId())).get()
+                .extracting(Device::getVersion).isEqualTo(0L);
+    }
+
+    // --- Bulk state change ---
+
+    @Test
+    void changeStateIfNotInUse_ShouldChangeOnlyDevicesThatAreNotInUse() {
+        // Arrange
+        Device available = deviceDao.save(new Device("Laptop", "Ops", DeviceState.AVAILABLE));
+        Device inUse = deviceDao.save(new Device("Phone", "Ops", DeviceState.IN_USE));
+        UUID unknown = UUID.randomUUID();
+
+        // Act
+        DeviceStateChange outcome = deviceDao.changeStateIfNotInUse(
+                List.of(available.getId(), inUse.getId(), unknown), DeviceState.INACTIVE);
+
+        // Assert
+        assertThat(outcome.changed()).containsExactly(available.getId());
+        assertThat(outcome.rejected()).containsExactly(inUse.getId());
+        assertThat(deviceDao.findById(available.getId())).get()
+                .extracting(Device::getState).isEqualTo(DeviceState.INACTIVE);
+        assertThat(deviceDao.findById(inUse.getId())).get()
+                .extracting(Device::getState).isEqualTo(DeviceState.IN_USE);
+    }
+
+    // --- Change sequence ---
+
+    @Test
+    void save_ShouldCreateChangeSequenceRowOnFirstWriteAndAdvanceIt() {
+        // Arrange: Hibernate creates the table empty, as a database without the seed row would be
+        assertThat(deviceDao.currentChangeSequence()).isZero();
+
+        // Act
+        deviceDao.save(new Device("Laptop", "Dell", DeviceState.AVAILABLE));
+        deviceDao.save(new Device("Phone", "Apple", DeviceState.AVAILABLE));
+
+        // Assert
+        assertThat(deviceDao.currentChangeSequence()).isEqualTo(2L);
+    }
+
+    @Test
+    void save_ShouldInsertWithoutLoadingTheEntityFirst() {
+        // Arrange
+        deviceDao.save(new Device("Laptop", "Dell", DeviceState.AVAILABLE));
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        deviceDao.save(new Device("Phone", "Apple", DeviceState.AVAILABLE));
+        entityManager.flush();
+
+        // Assert: the device INSERT plus the change sequence upsert, and no merge SELECT. The pg_notify
+        // for the invalidation goes through JdbcTemplate, so Hibernate does not count it.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -1,15 +1,32 @@
 package com.global.devices.devicesapi.adaptor.outadaptor.repository;
 
+import com.global.devices.devicesapi.adaptor.outadaptor.notification.DeviceInvalidationPublisher;
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceChangeSequenceEntity;
 import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import com.global.devices.devicesapi.config.DeviceBulkProperties;
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +41,21 @@ class DeviceDaoTest {
     @Mock
     private DeviceJpaRepository jpaRepository;
 
+    @Mock
+    private DeviceQueryRepository queries;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DeviceChangeSequenceJpaRepository changeSequenceRepository;
+
+    @Mock
+    private DeviceInvalidationPublisher invalidationPublisher;
+
+    @Spy
+    private DeviceBulkProperties bulkProperties = new DeviceBulkProperties();
+
     @InjectMocks
     private DeviceDao deviceDao;
 
@@ -63,62 +95,99 @@ class DeviceDaoTest {
 
 
         verify(jpaRepository, times(1)).save(any(DeviceEntity.class));
+        verify(changeSequenceRepository, times(1)).increment(DeviceChangeSequenceEntity.DEVICES);
+        verify(invalidationPublisher, times(1)).publish(DEVICE_ID);
 
         assertNotNull(savedDomain);
         assertEquals(DEVICE_ID, savedDomain.getId());
         assertEquals("TestDevice", savedDomain.getName());
     }
 
-    // --- Testing findAll and List Mapping ---
+    // --- Testing read delegation ---
 
     @Test
-    void findAll_ShouldReturnAllMappedDevices() {
+    void findById_ShouldDelegateToQueryRepository() {
+        when(queries.findById(DEVICE_ID)).thenReturn(Optional.of(domainDevice));
+
+        Optional<Device> result = deviceDao.findById(DEVICE_ID);
 
-        List<DeviceEntity> mockEntities = List.of(entityDevice, entityDevice);
-        when(jpaRepository.findAll()).thenReturn(mockEntities);
+        assertSame(domainDevice, result.get());
+        verifyNoInteractions(jpaRepository);
+    }
 
+    @Test
+    void findPageByState_ShouldDelegateToQueryRepository() {
+        DeviceCursor after = new DeviceCursor(NOW, DEVICE_ID);
+        when(queries.findPageByState(DeviceState.AVAILABLE, after, 10)).thenReturn(List.of(domainDevice));
 
-        List<Device> domainList = deviceDao.findAll();
+        List<Device> result = deviceDao.findPageByState(DeviceState.AVAILABLE, after, 10);
 
-        verify(jpaRepository, times(1)).findAll();
-        assertNotNull(domainList);
-        assertEquals(2, domainList.size());
-        assertEquals(Device.class, domainList.get(0).getClass());
+        assertEquals(List.of(domainDevice), result);
+        verifyNoInteractions(jpaRepository);
     }
 
-    // --- Testing findById and Optional Mapping ---
-
     @Test
-    void findById_ShouldReturnOptionalDomainWhenFound() {
-        when(jpaRepository.findById(DEVICE_ID)).thenReturn(Optional.of(entityDevice));
+    void search_ShouldDelegateToQueryRepository() {
+        DeviceSearch search = new DeviceSearch("BrandX", DeviceState.AVAILABLE, null, null, null);
+        when(queries.search(search, null, 10)).thenReturn(List.of(domainDevice));
 
-        Optional<Device> result = deviceDao.findById(DEVICE_ID);
+        List<Device> result = deviceDao.search(search, null, 10);
 
-        assertTrue(result.isPresent());
-        assertEquals(DEVICE_ID, result.get().getId());
-        verify(jpaRepository, times(1)).findById(DEVICE_ID);
+        assertEquals(List.of(domainDevice), result);
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
-    void findById_ShouldReturnEmptyOptionalWhenNotFound() {
-        when(jpaRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+    void scans_ShouldPreferReplicaWhileSingleDeviceReadsDoNot() {
+        when(queries.findByBrand("BrandX")).thenAnswer(invocation -> {
+            assertTrue(ReadRouting.isReplicaPreferred());
+            return List.of(domainDevice);
+        });
+        when(queries.findById(DEVICE_ID)).thenAnswer(invocation -> {
+            assertFalse(ReadRouting.isReplicaPreferred());
+            return Optional.of(domainDevice);
+        });
+
+        deviceDao.findByBrand("BrandX");
+        deviceDao.findById(DEVICE_ID);
+
+        assertFalse(ReadRouting.isReplicaPreferred());
+    }
 
-        Optional<Device> result = deviceDao.findById(UUID.randomUUID());
+    @Test
+    void readSnapshot_ShouldPreferReplicaForEveryRead() {
+        Boolean replicaPreferred = deviceDao.readSnapshot(ReadRouting::isReplicaPreferred);
 
-        assertFalse(result.isPresent());
+        assertTrue(replicaPreferred);
+        assertFalse(ReadRouting.isReplicaPreferred());
     }
 
-    // --- Testing findByBrand and findByState ---
+    // --- Testing streamAll ---
 
     @Test
-    void findByBrand_ShouldReturnMappedList() {
-        when(jpaRepository.findByBrand("BrandX")).thenReturn(List.of(entityDevice));
+    void streamAll_ShouldRunASingleStreamingQuery() {
+        deviceDao.streamAll(device -> { });
 
-        List<Device> result = deviceDao.findByBrand("BrandX");
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verifyNoInteractions(jpaRepository);
+    }
 
-        assertEquals(1, result.size());
-        assertEquals("BrandX", result.get(0).getBrand());
-        verify(jpaRepository, times(1)).findByBrand("BrandX");
+    @Test
+    void mapRow_ShouldReadEveryColumn() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject("id", UUID.class)).thenReturn(DEVICE_ID);
+        when(resultSet.getString("name")).thenReturn("TestDevice");
+        when(resultSet.getString("brand")).thenReturn("BrandX");
+        when(resultSet.getString("state")).thenReturn("IN_USE");
+        when(resultSet.getTimestamp("creation_time")).thenReturn(Timestamp.from(NOW));
+        when(resultSet.getLong("version")).thenReturn(3L);
+
+        Device device = DeviceDao.mapRow(resultSet);
+
+        assertEquals(DEVICE_ID, device.getId());
+        assertEquals(DeviceState.IN_USE, device.getState());
+        assertEquals(NOW, device.getCreationTime());
+        assertEquals(3L, device.getVersion());
     }
 
     // --- Testing deleteById ---
@@ -128,5 +197,110 @@ class DeviceDaoTest {
         deviceDao.deleteById(DEVICE_ID);
 
         verify(jpaRepository, times(1)).deleteById(DEVICE_ID);
+        verify(changeSequenceRepository, times(1)).increment(DeviceChangeSequenceEntity.DEVICES);
+        verify(invalidationPublisher, times(1)).publish(DEVICE_ID);
+    }
+
+    // --- Testing the change sequence ---
+
+    @Test
+    void currentChangeSequence_ShouldDefaultToZero() {
+        when(changeSequenceRepository.findSequenceValue(DeviceChangeSequenceEntity.DEVICES)).thenReturn(Optional.empty());
+
+        assertEquals(0L, deviceDao.currentChangeSequence());
+    }
+
+    // --- Testing conditional writes ---
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateIfNotInUse_ShouldRecordWriteWhenRowIsReturned() {
+        when(jdbcTemplate.query(anyString(), any(Object[].class), any(int[].class), any(RowMapper.class)))
+                .thenReturn(List.of(domainDevice));
+
+        Optional<Device> result = deviceDao.updateIfNotInUse(DEVICE_ID, "Renamed", null, DeviceState.INACTIVE);
+
+        assertTrue(result.isPresent());
+        verify(changeSequenceRepository, times(1)).increment(DeviceChangeSequenceEntity.DEVICES);
+        verify(invalidationPublisher, times(1)).publish(DEVICE_ID);
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateIfNotInUse_ShouldNotRecordWriteWhenNoRowMatches() {
+        when(jdbcTemplate.query(anyString(), any(Object[].class), any(int[].class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        Optional<Device> result = deviceDao.updateIfNotInUse(DEVICE_ID, "Renamed", null, null);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(changeSequenceRepository, invalidationPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaceIfNotInUse_ShouldWriteEveryColumnAsGiven() {
+        when(jdbcTemplate.query(anyString(), any(Object[].class), any(int[].class), any(RowMapper.class)))
+                .thenReturn(List.of(domainDevice));
+
+        deviceDao.replaceIfNotInUse(DEVICE_ID, "Renamed", "BrandY", DeviceState.INACTIVE);
+
+        verify(jdbcTemplate).query(argThat((String sql) -> !sql.contains("COALESCE")), any(Object[].class),
+                any(int[].class), any(RowMapper.class));
+        verify(invalidationPublisher, times(1)).publish(DEVICE_ID);
+    }
+
+    @Test
+    void deleteIfNotInUse_ShouldReportAffectedRow() {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1, 0);
+
+        assertTrue(deviceDao.deleteIfNotInUse(DEVICE_ID));
+        assertFalse(deviceDao.deleteIfNotInUse(DEVICE_ID));
+        verify(invalidationPublisher, times(1)).publish(DEVICE_ID);
+    }
+
+    // --- Testing saveAll ---
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAll_ShouldBatchInConfiguredChunksAndBumpSequenceOnce() {
+        bulkProperties.setChunkSize(2);
+        List<Device> devices = List.of(domainDevice, new Device("Phone", "BrandY", DeviceState.IN_USE));
+
+        List<Device> saved = deviceDao.saveAll(devices);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(devices), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(changeSequenceRepository, times(1)).increment(DeviceChangeSequenceEntity.DEVICES);
+        verify(invalidationPublisher, times(1)).publishAll(List.of(domainDevice.getId(), devices.get(1).getId()));
+        verifyNoInteractions(jpaRepository);
+        assertEquals(2, saved.size());
+        assertEquals(0L, saved.get(1).getVersion());
+    }
+
+    @Test
+    void saveAll_ShouldDoNothingForEmptyInput() {
+        assertTrue(deviceDao.saveAll(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate, changeSequenceRepository);
+    }
+
+    // --- Testing changeStateIfNotInUse ---
+
+    @Test
+    void changeStateIfNotInUse_ShouldSkipQueryForNoIds() {
+        DeviceStateChange outcome = deviceDao.changeStateIfNotInUse(List.of(), DeviceState.INACTIVE);
+
+        assertTrue(outcome.changed().isEmpty());
+        verifyNoInteractions(jdbcTemplate, changeSequenceRepository, invalidationPublisher);
+    }
+
+    @Test
+    void changeStateIfNotInUse_ShouldNotRecordWriteWhenNothingChanged() {
+        DeviceStateChange outcome = deviceDao.changeStateIfNotInUse(List.of(DEVICE_ID), DeviceState.INACTIVE);
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+        assertTrue(outcome.changed().isEmpty());
+        verifyNoInteractions(changeSequenceRepository, invalidationPublisher);
     }
-}
\ No newline at end of file
+}
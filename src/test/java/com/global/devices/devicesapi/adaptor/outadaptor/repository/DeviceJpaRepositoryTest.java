@@ -1,12 +1,19 @@
 package com.global.devices.devicesapi.adaptor.outadaptor.repository;
 
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
@@ -15,7 +22,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 @ActiveProfiles("test")
 class DeviceJpaRepositoryTest {
@@ -23,6 +30,9 @@ class DeviceJpaRepositoryTest {
     @Autowired
     private DeviceJpaRepository deviceJpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private DeviceEntity activeAcmeDevice;
     private DeviceEntity inactiveAcmeDevice;
     private DeviceEntity activeBetaDevice;
@@ -95,6 +105,101 @@ class DeviceJpaRepositoryTest {
         assertThat(devices).isEmpty();
     }
 
+    @Test
+    void findVersionById_ShouldReturnVersionWithoutLoadingEntity() {
+        // Act & Assert
+        assertThat(deviceJpaRepository.findVersionById(activeAcmeDevice.getId())).contains(0L);
+        assertThat(deviceJpaRepository.findVersionById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void save_ShouldIncrementVersionOnUpdate() {
+        // Arrange
+        DeviceEntity loaded = deviceJpaRepository.findById(activeAcmeDevice.getId()).orElseThrow();
+        loaded.setName("Laptop X2");
+
+        // Act
+        DeviceEntity updated = deviceJpaRepository.saveAndFlush(loaded);
+
+        // Assert
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    // --- Testing Keyset Pages ---
+
+    @Test
+    void keysetPages_ShouldWalkAllDevicesInCreationOrderWithoutOverlap() {
+        // Act
+        List<DeviceEntity> first = deviceJpaRepository.findFirstPage(Limit.of(2));
+        DeviceEntity last = first.get(first.size() - 1);
+        List<DeviceEntity> second = deviceJpaRepository.findPageAfter(last.getCreationTime(), last.getId(), Limit.of(2));
+
+        // Assert
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(first).extracting(DeviceEntity::getId).doesNotContain(second.get(0).getId());
+    }
+
+    @Test
+    void keysetPagesByBrand_ShouldOnlyReturnMatchingBrand() {
+        // Act
+        List<DeviceEntity> first = deviceJpaRepository.findFirstPageByBrand("AcmeTech", Limit.of(1));
+        DeviceEntity last = first.get(0);
+        List<DeviceEntity> second = deviceJpaRepository.findPageByBrandAfter("AcmeTech", last.getCreationTime(),
+                last.getId(), Limit.of(5));
+
+        // Assert
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getBrand()).isEqualTo("AcmeTech");
+        assertThat(second.get(0).getId()).isNotEqualTo(last.getId());
+    }
+
+    // --- Testing Combined Search ---
+
+    @Test
+    void search_ShouldCombineBrandAndState() {
+        // Act
+        List<DeviceEntity> devices = deviceJpaRepository.search(
+                new DeviceSearch("AcmeTech", DeviceState.AVAILABLE, null, null, null), null, 10);
+
+        // Assert
+        assertThat(devices).extracting(DeviceEntity::getId).containsExactly(activeAcmeDevice.getId());
+    }
+
+    @Test
+    void search_ShouldApplyHalfOpenCreationTimeRange() {
+        // Arrange
+        Instant created = deviceJpaRepository.findById(activeBetaDevice.getId()).orElseThrow().getCreationTime();
+
+        // Act
+        List<DeviceEntity> from = deviceJpaRepository.search(
+                new DeviceSearch("BetaCorp", null, created, null, null), null, 10);
+        List<DeviceEntity> before = deviceJpaRepository.search(
+                new DeviceSearch("BetaCorp", null, null, created, null), null, 10);
+
+        // Assert
+        assertThat(from).extracting(DeviceEntity::getId).containsExactly(activeBetaDevice.getId());
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    void search_ShouldWalkNewestFirstWithoutOverlap() {
+        // Arrange
+        DeviceSearch newestFirst = new DeviceSearch(null, null, null, null, DeviceSearch.Order.DESC);
+
+        // Act
+        List<DeviceEntity> first = deviceJpaRepository.search(newestFirst, null, 2);
+        DeviceEntity last = first.get(first.size() - 1);
+        List<DeviceEntity> second = deviceJpaRepository.search(newestFirst,
+                new DeviceCursor(last.getCreationTime(), last.getId()), 2);
+
+        // Assert
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(first.get(0).getCreationTime()).isAfterOrEqualTo(first.get(1).getCreationTime());
+        assertThat(first).extracting(DeviceEntity::getId).doesNotContain(second.get(0).getId());
+    }
+
     // --- Testing Inherited CRUD Methods ---
 
     @Test
@@ -115,4 +220,43 @@ class DeviceJpaRepositoryTest {
         assertThat(savedDevice).isNotNull();
         assertThat(deviceJpaRepository.findById(newDevice.getId())).isPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    void save_ShouldInsertNewDeviceWithASingleStatement() {
+        // Arrange
+        DeviceEntity newDevice = new Device("Router", "NetCo", DeviceState.AVAILABLE).toEntity();
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        deviceJpaRepository.saveAndFlush(newDevice);
+
+        // Assert: no merge SELECT ahead of the INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void save_ShouldMergeDetachedDeviceThatCarriesAVersion() {
+        // Arrange
+        entityManager.flush();
+        entityManager.clear();
+        DeviceEntity detached = DeviceEntity.builder()
+                .id(activeAcmeDevice.getId())
+                .name("Laptop X3")
+                .brand("AcmeTech")
+                .state(DeviceState.IN_USE)
+                .creationTime(activeAcmeDevice.getCreationTime())
+                .version(0L)
+                .build();
+
+        // Act
+        DeviceEntity updated = deviceJpaRepository.saveAndFlush(detached);
+
+        // Assert
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(deviceJpaRepository.count()).isEqualTo(3);
+    }
+}
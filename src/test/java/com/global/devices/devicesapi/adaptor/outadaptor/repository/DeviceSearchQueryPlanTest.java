@@ -0,0 +1,124 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+EXPLAINs the search statements against a real, analyzed Postgres table and checks that every
+filter combination is an ordered index scan: no sequential scan and no sort before the LIMIT.
+The statements come from JdbcDeviceQueryRepository.searchQuery; the JPQL search renders the
+same WHERE and ORDER BY shape.
+*/
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeviceSearchQueryPlanTest {
+
+    private static final int PAGE = 101;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final DeviceCursor CURSOR = new DeviceCursor(NOW.minus(1, ChronoUnit.DAYS), UUID.randomUUID());
+
+    @BeforeAll
+    void seed() {
+        // 4 brands x 3 states spread over roughly 35 days
+        jdbcTemplate.update("""
+                INSERT INTO device (id, name, brand, state, creation_time, version)
+                SELECT gen_random_uuid(), 'Device ' || i, 'Brand ' || (i % 4),
+                       (ARRAY['AVAILABLE', 'IN_USE', 'INACTIVE'])[i % 3 + 1],
+                       now() - make_interval(mins => i), 0
+                FROM generate_series(1, 50000) AS i
+                """);
+        jdbcTemplate.execute("ANALYZE device");
+    }
+
+    // --- 1. One index per combination of equality filters ---
+
+    @Test
+    void unfiltered_ShouldSeekOnCreationTimeIndex() {
+        String plan = explain(new DeviceSearch(null, null, null, null, null), CURSOR);
+
+        assertOrderedIndexScan(plan, "idx_device_creation_time_id");
+    }
+
+    @Test
+    void brand_ShouldUseBrandIndex() {
+        String plan = explain(new DeviceSearch("Brand 1", null, null, null, null), CURSOR);
+
+        assertOrderedIndexScan(plan, "idx_device_brand_creation_time_id");
+    }
+
+    @Test
+    void stateWithRange_ShouldUseStateIndex() {
+        String plan = explain(new DeviceSearch(null, DeviceState.AVAILABLE,
+                NOW.minus(7, ChronoUnit.DAYS), NOW, null), null);
+
+        assertOrderedIndexScan(plan, "idx_device_state_creation_time_id");
+    }
+
+    @Test
+    void brandAndStateWithRange_ShouldUseCombinedIndex() {
+        String plan = explain(new DeviceSearch("Brand 2", DeviceState.AVAILABLE,
+                NOW.minus(7, ChronoUnit.DAYS), NOW, null), CURSOR);
+
+        assertOrderedIndexScan(plan, "idx_device_brand_state_creation_time_id");
+    }
+
+    // --- 2. Newest first walks the same index backwards ---
+
+    @Test
+    void brandAndStateDescending_ShouldScanCombinedIndexBackward() {
+        String plan = explain(new DeviceSearch("Brand 2", DeviceState.IN_USE, null, null,
+                DeviceSearch.Order.DESC), CURSOR);
+
+        assertOrderedIndexScan(plan, "idx_device_brand_state_creation_time_id");
+        assertThat(plan).contains("Index Scan Backward");
+    }
+
+    private String explain(DeviceSearch search, DeviceCursor after) {
+        var query = JdbcDeviceQueryRepository.searchQuery(search, after, PAGE);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.args()));
+    }
+
+    private static void assertOrderedIndexScan(String plan, String index) {
+        assertThat(plan).contains("using " + index);
+        assertThat(plan).doesNotContain("Seq Scan");
+        assertThat(plan).doesNotContain("Sort");
+    }
+}
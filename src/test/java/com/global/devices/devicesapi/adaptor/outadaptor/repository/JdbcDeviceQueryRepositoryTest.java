@@ -0,0 +1,157 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Schema comes from the JPA entity; the rows are then read back through plain JDBC
+@DataJpaTest(properties = "devices.read-adaptor=jdbc")
+@Import(JdbcDeviceQueryRepository.class)
+class JdbcDeviceQueryRepositoryTest {
+
+    @Autowired
+    private DeviceJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcDeviceQueryRepository queries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+    private DeviceEntity first;
+    private DeviceEntity second;
+    private DeviceEntity third;
+
+    @BeforeEach
+    void setUp() {
+        first = save("Laptop", "Acme", DeviceState.AVAILABLE, BASE);
+        second = save("Phone", "Acme", DeviceState.IN_USE, BASE.plus(1, ChronoUnit.MINUTES));
+        third = save("Tablet", "Beta", DeviceState.AVAILABLE, BASE.plus(2, ChronoUnit.MINUTES));
+    }
+
+    private DeviceEntity save(String name, String brand, DeviceState state, Instant creationTime) {
+        DeviceEntity saved = jpaRepository.saveAndFlush(new DeviceEntity(UUID.randomUUID(), name, brand, state, null, null));
+        // creation_time is not updatable through the entity, pin it in SQL for a stable order
+        jdbcTemplate.update("UPDATE device SET creation_time = ? WHERE id = ?", Timestamp.from(creationTime), saved.getId());
+        return saved;
+    }
+
+    @Test
+    void findById_ShouldMapEveryColumn() {
+        // Act
+        Device device = queries.findById(first.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(first.getId(), device.getId());
+        assertEquals("Laptop", device.getName());
+        assertEquals("Acme", device.getBrand());
+        assertEquals(DeviceState.AVAILABLE, device.getState());
+        assertEquals(BASE, device.getCreationTime());
+        assertEquals(first.getVersion(), device.getVersion());
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyForUnknownId() {
+        assertTrue(queries.findById(UUID.randomUUID()).isEmpty());
+        assertTrue(queries.findVersionById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findAllByIds_ShouldReturnOnlyExistingIds() {
+        // Act
+        List<Device> devices = queries.findAllByIds(List.of(first.getId(), third.getId(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(2, devices.size());
+    }
+
+    @Test
+    void findByBrandAndState_ShouldFilter() {
+        assertEquals(2, queries.findByBrand("Acme").size());
+        assertEquals(List.of(second.getId()), queries.findByState(DeviceState.IN_USE).stream().map(Device::getId).toList());
+        assertEquals(3, queries.findAll().size());
+    }
+
+    @Test
+    void findPage_ShouldWalkInCreationOrder() {
+        // Act
+        List<Device> firstPage = queries.findPage(null, 2);
+        List<Device> nextPage = queries.findPage(DeviceCursor.of(firstPage.get(1)), 2);
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.stream().map(Device::getId).toList());
+        assertEquals(List.of(third.getId()), nextPage.stream().map(Device::getId).toList());
+    }
+
+    @Test
+    void findPageByBrandAndState_ShouldSeekPastCursor() {
+        // Arrange
+        DeviceCursor afterFirst = new DeviceCursor(BASE, first.getId());
+
+        // Act & Assert
+        assertEquals(List.of(second.getId()),
+                queries.findPageByBrand("Acme", afterFirst, 10).stream().map(Device::getId).toList());
+        assertEquals(List.of(third.getId()),
+                queries.findPageByState(DeviceState.AVAILABLE, afterFirst, 10).stream().map(Device::getId).toList());
+    }
+
+    @Test
+    void search_ShouldCombineFiltersAndRange() {
+        // Arrange
+        DeviceSearch acmeFromSecondMinute = new DeviceSearch("Acme", null, BASE.plus(1, ChronoUnit.MINUTES), null, null);
+        DeviceSearch availableBeforeLast = new DeviceSearch(null, DeviceState.AVAILABLE, null,
+                BASE.plus(2, ChronoUnit.MINUTES), null);
+
+        // Act & Assert
+        assertEquals(List.of(second.getId()),
+                queries.search(acmeFromSecondMinute, null, 10).stream().map(Device::getId).toList());
+        assertEquals(List.of(first.getId()),
+                queries.search(availableBeforeLast, null, 10).stream().map(Device::getId).toList());
+        assertTrue(queries.search(new DeviceSearch("Beta", DeviceState.IN_USE, null, null, null), null, 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldPageNewestFirst() {
+        // Arrange
+        DeviceSearch newestFirst = new DeviceSearch(null, null, null, null, DeviceSearch.Order.DESC);
+
+        // Act
+        List<Device> firstPage = queries.search(newestFirst, null, 2);
+        List<Device> nextPage = queries.search(newestFirst, DeviceCursor.of(firstPage.get(1)), 2);
+
+        // Assert
+        assertEquals(List.of(third.getId(), second.getId()), firstPage.stream().map(Device::getId).toList());
+        assertEquals(List.of(first.getId()), nextPage.stream().map(Device::getId).toList());
+    }
+
+    @Test
+    void searchQuery_ShouldOnlyContainGivenFilters() {
+        // Act
+        var brandOnly = JdbcDeviceQueryRepository.searchQuery(new DeviceSearch("Acme", null, null, null, null), null, 5);
+        var unfiltered = JdbcDeviceQueryRepository.searchQuery(
+                new DeviceSearch(null, null, null, null, DeviceSearch.Order.DESC), null, 5);
+
+        // Assert
+        assertTrue(brandOnly.sql().endsWith("WHERE brand = ? ORDER BY creation_time, id LIMIT ?"));
+        assertArrayEquals(new Object[]{"Acme", 5}, brandOnly.args());
+        assertFalse(unfiltered.sql().contains("WHERE"));
+        assertTrue(unfiltered.sql().endsWith("ORDER BY creation_time DESC, id DESC LIMIT ?"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs outside the usual test transaction so each repository call is its own (read-only) transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaDeviceQueryRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaDeviceQueryRepositoryReadOnlyTest {
+
+    @Autowired
+    private DeviceJpaRepository jpaRepository;
+
+    @Autowired
+    private JpaDeviceQueryRepository queries;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.save(new DeviceEntity(UUID.randomUUID(), "Laptop", "Acme", DeviceState.AVAILABLE, null, null));
+        jpaRepository.save(new DeviceEntity(UUID.randomUUID(), "Phone", "Acme", DeviceState.IN_USE, null, null));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void reads_ShouldCommitWithoutFlushingLoadedEntities() {
+        // Act
+        queries.findAll();
+        queries.findByBrand("Acme");
+        queries.findPage(null, 10);
+
+        // Assert: read-only sessions use flush mode MANUAL, so no dirty check runs at commit
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getFlushCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void readWriteTransaction_ShouldFlushForComparison() {
+        // Act: Spring Data's own findAll runs in a read-only transaction too, saveAll does not
+        jpaRepository.saveAll(jpaRepository.findAll());
+
+        // Assert
+        assertThat(statistics.getFlushCount()).isEqualTo(1);
+    }
+}
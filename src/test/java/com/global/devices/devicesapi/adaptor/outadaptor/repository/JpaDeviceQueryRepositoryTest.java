@@ -0,0 +1,132 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
+import com.global.devices.devicesapi.domain.model.DeviceSearch;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaDeviceQueryRepositoryTest {
+
+    @Mock
+    private DeviceJpaRepository jpaRepository;
+
+    @InjectMocks
+    private JpaDeviceQueryRepository queries;
+
+    private final UUID DEVICE_ID = UUID.randomUUID();
+    private final Instant NOW = Instant.now();
+    private final DeviceEntity entityDevice = new DeviceEntity(DEVICE_ID, "TestDevice", "BrandX",
+            DeviceState.AVAILABLE, NOW, 0L);
+
+    // --- Testing findAll and List Mapping ---
+
+    @Test
+    void findAll_ShouldReturnAllMappedDevices() {
+        when(jpaRepository.findAll()).thenReturn(List.of(entityDevice, entityDevice));
+
+        List<Device> domainList = queries.findAll();
+
+        verify(jpaRepository, times(1)).findAll();
+        assertEquals(2, domainList.size());
+        assertEquals(Device.class, domainList.get(0).getClass());
+    }
+
+    // --- Testing findById and Optional Mapping ---
+
+    @Test
+    void findById_ShouldReturnOptionalDomainWhenFound() {
+        when(jpaRepository.findById(DEVICE_ID)).thenReturn(Optional.of(entityDevice));
+
+        Optional<Device> result = queries.findById(DEVICE_ID);
+
+        assertTrue(result.isPresent());
+        assertEquals(DEVICE_ID, result.get().getId());
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyOptionalWhenNotFound() {
+        when(jpaRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+
+        assertFalse(queries.findById(UUID.randomUUID()).isPresent());
+    }
+
+    // --- Testing findByBrand ---
+
+    @Test
+    void findByBrand_ShouldReturnMappedList() {
+        when(jpaRepository.findByBrand("BrandX")).thenReturn(List.of(entityDevice));
+
+        List<Device> result = queries.findByBrand("BrandX");
+
+        assertEquals(1, result.size());
+        assertEquals("BrandX", result.get(0).getBrand());
+    }
+
+    // --- Testing keyset pages ---
+
+    @Test
+    void findPage_ShouldUseFirstPageQueryWithoutCursor() {
+        when(jpaRepository.findFirstPage(Limit.of(10))).thenReturn(List.of(entityDevice));
+
+        List<Device> result = queries.findPage(null, 10);
+
+        assertEquals(1, result.size());
+        verify(jpaRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    @Test
+    void findPageByState_ShouldSeekPastCursor() {
+        DeviceCursor after = new DeviceCursor(NOW, DEVICE_ID);
+        when(jpaRepository.findPageByStateAfter(DeviceState.AVAILABLE, NOW, DEVICE_ID, Limit.of(10)))
+                .thenReturn(List.of(entityDevice));
+
+        List<Device> result = queries.findPageByState(DeviceState.AVAILABLE, after, 10);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void search_ShouldMapEntitiesFromDynamicQuery() {
+        DeviceSearch search = new DeviceSearch("BrandX", DeviceState.AVAILABLE, NOW, null, DeviceSearch.Order.DESC);
+        when(jpaRepository.search(search, null, 10)).thenReturn(List.of(entityDevice));
+
+        List<Device> result = queries.search(search, null, 10);
+
+        assertEquals(DEVICE_ID, result.get(0).getId());
+    }
+
+    // --- Testing findAllByIds ---
+
+    @Test
+    void findAllByIds_ShouldUseOneQueryAndMapResults() {
+        when(jpaRepository.findAllById(List.of(DEVICE_ID))).thenReturn(List.of(entityDevice));
+
+        List<Device> result = queries.findAllByIds(List.of(DEVICE_ID));
+
+        assertEquals(1, result.size());
+        assertEquals(DEVICE_ID, result.get(0).getId());
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    void findAllByIds_ShouldSkipQueryForNoIds() {
+        assertTrue(queries.findAllByIds(List.of()).isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+}
@@ -0,0 +1,72 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaLagMonitorTest {
+
+    private final JdbcTemplate replica = mock(JdbcTemplate.class);
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(replica, Duration.ofMillis(500), Duration.ofSeconds(1), meterRegistry);
+    }
+
+    @Test
+    void isReplicaUsable_ShouldBeFalseBeforeFirstCheck() {
+        assertFalse(monitor.isReplicaUsable());
+        assertTrue(Double.isNaN(meterRegistry.get("devices.replica.lag").gauge().value()));
+    }
+
+    @Test
+    void check_ShouldUseReplicaOnlyWithinLagTolerance() {
+        // Arrange
+        when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.2, 1.5, 0.0);
+
+        // Act & Assert
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+        monitor.check();
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals(1.5, meterRegistry.get("devices.replica.lag").gauge().value());
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void check_ShouldStopUsingReplicaWhenItCannotBeReached() {
+        // Arrange
+        when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenReturn(0.0)
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        // Act & Assert
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+        monitor.check();
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void check_ShouldTreatUnknownReplayTimeAsUnusable() {
+        // Arrange: in recovery but nothing replayed yet
+        when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(null);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isReplicaUsable());
+    }
+}
@@ -0,0 +1,92 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository;
+
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final AtomicBoolean replicaUsable = new AtomicBoolean(true);
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(primary, replica, replicaUsable::get, meterRegistry);
+    }
+
+    // --- 1. Routing ---
+
+    @Test
+    void getConnection_ShouldUsePrimaryUnlessReplicaIsPreferred() throws SQLException {
+        // Act & Assert
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        try (var scope = ReadRouting.preferReplica()) {
+            assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        }
+        assertThat(meterRegistry.get("devices.replica.reads").tag("target", "replica").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimaryWhileReplicaIsNotUsable() throws SQLException {
+        // Arrange
+        replicaUsable.set(false);
+
+        // Act & Assert
+        try (var scope = ReadRouting.preferReplica()) {
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+        assertThat(meterRegistry.get("devices.replica.reads").tag("target", "primary").counter().count()).isEqualTo(1.0);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimaryWhenPrimaryIsRequired() throws SQLException {
+        // Act & Assert
+        try (var primaryScope = ReadRouting.requirePrimary(); var replicaScope = ReadRouting.preferReplica()) {
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+        verifyNoInteractions(replica);
+    }
+
+    // --- 2. Behind the lazy proxy ---
+
+    @Test
+    void lazyProxy_ShouldRouteAtFirstStatementNotWhenConnectionIsTaken() throws SQLException {
+        // Arrange: a transaction takes its connection before the adaptor marks the read
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        var proxy = new LazyConnectionDataSourceProxy(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        Connection connection = proxy.getConnection();
+        connection.setReadOnly(true);
+
+        // Act
+        try (var scope = ReadRouting.preferReplica()) {
+            connection.prepareStatement("SELECT 1");
+        }
+
+        // Assert
+        verify(replicaConnection).prepareStatement("SELECT 1");
+        verify(primary, never()).getConnection();
+    }
+}
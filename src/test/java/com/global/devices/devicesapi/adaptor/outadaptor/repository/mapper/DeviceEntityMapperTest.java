@@ -0,0 +1,58 @@
+package com.global.devices.devicesapi.adaptor.outadaptor.repository.mapper;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.model.DeviceEntity;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceEntityMapperTest {
+
+    private final DeviceEntityMapper mapper = DeviceEntityMapper.INSTANCE;
+    private final DeviceEntity entity = new DeviceEntity(UUID.randomUUID(), "Laptop", "Dell",
+            DeviceState.IN_USE, Instant.now(), 3L);
+
+    @Test
+    void toDomain_ShouldMapAllFieldsIncludingVersion() {
+        // Act
+        Device device = mapper.toDomain(entity);
+
+        // Assert
+        assertEquals(entity.getId(), device.getId());
+        assertEquals(entity.getName(), device.getName());
+        assertEquals(entity.getBrand(), device.getBrand());
+        assertEquals(entity.getState(), device.getState());
+        assertEquals(entity.getCreationTime(), device.getCreationTime());
+        assertEquals(3L, device.getVersion());
+    }
+
+    @Test
+    void toEntity_ShouldRoundTripDomainDevice() {
+        // Arrange
+        Device device = mapper.toDomain(entity);
+
+        // Act
+        DeviceEntity mapped = mapper.toEntity(device);
+
+        // Assert
+        assertEquals(entity, mapped);
+    }
+
+    @Test
+    void toDomainList_ShouldMapEveryEntityInOrder() {
+        // Arrange
+        DeviceEntity other = new DeviceEntity(UUID.randomUUID(), "Phone", "Apple",
+                DeviceState.AVAILABLE, Instant.now(), 0L);
+
+        // Act
+        List<Device> devices = mapper.toDomainList(List.of(entity, other));
+
+        // Assert
+        assertEquals(List.of(entity.getId(), other.getId()), devices.stream().map(Device::getId).toList());
+    }
+}
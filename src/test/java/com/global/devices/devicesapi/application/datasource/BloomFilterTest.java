@@ -0,0 +1,50 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverMissAnAddedId() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<UUID> ids = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // Act
+        ids.forEach(filter::add);
+
+        // Assert
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void mightContain_ShouldStayNearConfiguredFalsePositiveRate() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(UUID.randomUUID()));
+
+        // Act
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        // Assert: 1% expected, generous bound to keep the test stable
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void create_ShouldSizeBitsFromExpectedInsertionsAndRate() {
+        // Act
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+        // Assert: about 9.6 bits per id for a 1% rate
+        assertTrue(filter.bitCount() >= 9_585_058L);
+        assertTrue(filter.bitCount() < 9_585_058L + 64);
+    }
+}
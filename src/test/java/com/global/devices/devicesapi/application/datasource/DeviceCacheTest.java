@@ -0,0 +1,321 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceCacheTest {
+
+    private final UUID TEST_ID = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private DeviceCache deviceCache;
+    private Device device;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deviceCache = new DeviceCache(new DeviceCacheProperties(), meterRegistry);
+        device = new Device(TEST_ID, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now());
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndThenHit() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        deviceCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.of(device); });
+        Optional<Device> result = deviceCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.of(device); });
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertSame(device, result.get());
+    }
+
+    @Test
+    void evict_ShouldForceReload() {
+        // Arrange
+        deviceCache.put(device);
+
+        // Act
+        deviceCache.evict(TEST_ID);
+        Optional<Device> result = deviceCache.get(TEST_ID, id -> Optional.empty());
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void get_ShouldBypassCacheWhenDisabled() {
+        // Arrange
+        DeviceCacheProperties properties = new DeviceCacheProperties();
+        properties.setEnabled(false);
+        DeviceCache disabledCache = new DeviceCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        disabledCache.put(device);
+        disabledCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.of(device); });
+        disabledCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.of(device); });
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void metrics_ShouldExposeHitMissAndEvictionMeters() {
+        // Act
+        deviceCache.get(TEST_ID, id -> Optional.of(device));
+        deviceCache.get(TEST_ID, id -> Optional.of(device));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "devices").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "devices").tag("result", "miss").functionCounter().count());
+        assertNotNull(meterRegistry.get("cache.evictions").tag("cache", "devices").functionCounter());
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissesInOneCall() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        Device other = new Device(otherId, "Tablet", "Acme", DeviceState.INACTIVE, Instant.now());
+        deviceCache.put(device);
+        List<Set<UUID>> loaderCalls = new ArrayList<>();
+
+        // Act
+        Map<UUID, Device> result = deviceCache.getAll(List.of(TEST_ID, otherId, unknownId), missing -> {
+            loaderCalls.add(missing);
+            return Map.of(otherId, other);
+        });
+
+        // Assert
+        assertEquals(List.of(Set.of(otherId, unknownId)), loaderCalls);
+        assertEquals(Map.of(TEST_ID, device, otherId, other), result);
+        assertTrue(deviceCache.getIfPresent(otherId).isPresent());
+        assertTrue(deviceCache.getIfPresent(unknownId).isEmpty());
+    }
+
+    @Test
+    void get_ShouldCollapseConcurrentLoadsOfAnAbsentDevice() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Optional<Device>>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            results.add(pool.submit(() -> deviceCache.get(TEST_ID, id -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return Optional.<Device>empty();
+            })));
+        }
+        while (meterRegistry.get("devices.cache.load.collapsed").counter().count() < 3) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        for (Future<Optional<Device>> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS).isEmpty());
+        }
+        assertEquals(1, loads.get());
+        pool.shutdown();
+    }
+
+    @Test
+    void get_ShouldNotStoreLoadThatOverlappedAnEviction() {
+        // Act: the device is evicted (e.g. updated on another node) while its load is running
+        deviceCache.get(TEST_ID, id -> {
+            deviceCache.evict(TEST_ID);
+            return Optional.of(device);
+        });
+
+        // Assert
+        assertTrue(deviceCache.getIfPresent(TEST_ID).isEmpty());
+    }
+
+    @Test
+    void get_ShouldAnswerRecentlyAbsentDeviceWithoutLoading() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        deviceCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.empty(); });
+        Optional<Device> result = deviceCache.get(TEST_ID, id -> { loads.incrementAndGet(); return Optional.of(device); });
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void put_ShouldClearAbsentMarker() {
+        // Arrange
+        deviceCache.get(TEST_ID, id -> Optional.empty());
+
+        // Act
+        deviceCache.put(device);
+
+        // Assert
+        assertSame(device, deviceCache.get(TEST_ID, id -> Optional.empty()).get());
+    }
+
+    @Test
+    void put_ShouldKeepNewerVersion_whenWritesFinishOutOfOrder() {
+        // Arrange
+        Device v1 = new Device(TEST_ID, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now(), 1L);
+        Device v2 = new Device(TEST_ID, "Sensor", "Acme", DeviceState.IN_USE, Instant.now(), 2L);
+
+        // Act
+        deviceCache.put(v2);
+        deviceCache.put(v1);
+
+        // Assert
+        assertSame(v2, deviceCache.getIfPresent(TEST_ID).get());
+    }
+
+    @Test
+    void put_ShouldEvict_whenVersionIsUnknown() {
+        // Arrange
+        deviceCache.put(new Device(TEST_ID, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now(), 1L));
+
+        // Act
+        deviceCache.put(device);
+
+        // Assert
+        assertTrue(deviceCache.getIfPresent(TEST_ID).isEmpty());
+    }
+
+    @Test
+    void evict_ShouldClearAbsentMarker() {
+        // Arrange: created on another node after this node saw it missing
+        deviceCache.get(TEST_ID, id -> Optional.empty());
+
+        // Act
+        deviceCache.evict(TEST_ID);
+        Optional<Device> result = deviceCache.get(TEST_ID, id -> Optional.of(device));
+
+        // Assert
+        assertSame(device, result.get());
+    }
+
+    @Test
+    void get_ShouldForgetAbsentMarkerAfterNegativeTtl() throws InterruptedException {
+        // Arrange
+        DeviceCacheProperties properties = new DeviceCacheProperties();
+        properties.setNegativeTtl(Duration.ofMillis(20));
+        DeviceCache shortLived = new DeviceCache(properties, meterRegistry);
+        shortLived.get(TEST_ID, id -> Optional.empty());
+
+        // Act
+        Thread.sleep(50);
+        Optional<Device> result = shortLived.get(TEST_ID, id -> Optional.of(device));
+
+        // Assert
+        assertSame(device, result.get());
+    }
+
+    @Test
+    void getAll_ShouldSkipRecentlyAbsentIds() {
+        // Arrange
+        UUID unknownId = UUID.randomUUID();
+        deviceCache.getAll(List.of(unknownId), missing -> Map.of());
+        List<Set<UUID>> loaderCalls = new ArrayList<>();
+
+        // Act
+        Map<UUID, Device> result = deviceCache.getAll(List.of(TEST_ID, unknownId), missing -> {
+            loaderCalls.add(missing);
+            return Map.of(TEST_ID, device);
+        });
+
+        // Assert
+        assertEquals(List.of(Set.of(TEST_ID)), loaderCalls);
+        assertEquals(Map.of(TEST_ID, device), result);
+    }
+
+    @Test
+    void getAll_ShouldNotStoreLoadThatOverlappedAnEviction() {
+        // Arrange
+        UUID unknownId = UUID.randomUUID();
+
+        // Act: the device is evicted (e.g. updated on another node) while the batch load is running
+        Map<UUID, Device> result = deviceCache.getAll(List.of(TEST_ID, unknownId), missing -> {
+            deviceCache.evict(TEST_ID);
+            return Map.of(TEST_ID, device);
+        });
+
+        // Assert: the caller gets the load, the evicted id is not cached, the untouched miss still is
+        assertEquals(Map.of(TEST_ID, device), result);
+        assertTrue(deviceCache.getIfPresent(TEST_ID).isEmpty());
+        assertTrue(deviceCache.get(unknownId, id -> Optional.of(device)).isEmpty());
+    }
+
+    @Test
+    void store_ShouldDropLoad_whenEvictLandsBetweenLoadAndStore() {
+        // Arrange
+        Object token = deviceCache.beginLoad(TEST_ID);
+
+        // Act: the load has read its row, then an eviction arrives before the result is stored
+        deviceCache.evict(TEST_ID);
+        deviceCache.store(TEST_ID, token, Optional.of(device));
+
+        // Assert
+        assertTrue(deviceCache.getIfPresent(TEST_ID).isEmpty());
+    }
+
+    @Test
+    void store_ShouldDropAbsentMarker_whenEvictLandsBetweenLoadAndStore() {
+        // Arrange
+        Object token = deviceCache.beginLoad(TEST_ID);
+
+        // Act
+        deviceCache.evict(TEST_ID);
+        deviceCache.store(TEST_ID, token, Optional.empty());
+
+        // Assert: the device created meanwhile is loaded instead of answered as absent
+        assertTrue(deviceCache.get(TEST_ID, id -> Optional.of(device)).isPresent());
+    }
+
+    @Test
+    void get_ShouldStoreLoad_whenAnotherDeviceIsEvictedMeanwhile() {
+        // Act
+        deviceCache.get(TEST_ID, id -> {
+            deviceCache.evict(UUID.randomUUID());
+            return Optional.of(device);
+        });
+
+        // Assert
+        assertSame(device, deviceCache.getIfPresent(TEST_ID).get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceIdFilterProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceIdFilterTest {
+
+    @Mock
+    private DeviceRepositoryPort repositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeviceIdFilterProperties properties;
+    private DeviceIdFilter filter;
+    private final UUID EXISTING_ID = UUID.randomUUID();
+    private final UUID UNKNOWN_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DeviceIdFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedInsertions(1_000);
+        filter = new DeviceIdFilter(properties, repositoryPort, meterRegistry);
+    }
+
+    private void streamIds(UUID... ids) {
+        doAnswer(invocation -> {
+            Consumer<Device> consumer = invocation.getArgument(0);
+            for (UUID id : ids) {
+                consumer.accept(new Device(id, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now()));
+            }
+            return null;
+        }).when(repositoryPort).streamAll(any());
+    }
+
+    @Test
+    void mightContain_ShouldPassEverythingThroughBeforeFirstBuild() {
+        // Act & Assert
+        assertTrue(filter.mightContain(UNKNOWN_ID));
+    }
+
+    @Test
+    void rebuild_ShouldRejectIdsThatAreNotInTheTable() {
+        // Arrange
+        streamIds(EXISTING_ID);
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertTrue(filter.mightContain(EXISTING_ID));
+        assertFalse(filter.mightContain(UNKNOWN_ID));
+        assertEquals(1.0, meterRegistry.get("devices.id.filter.rejected").counter().count());
+    }
+
+    @Test
+    void rebuild_ShouldReadFromPrimaryEvenWhereScansPreferReplica() {
+        // Arrange
+        doAnswer(invocation -> {
+            try (var replica = ReadRouting.preferReplica()) {
+                assertFalse(ReadRouting.isReplicaPreferred());
+            }
+            return null;
+        }).when(repositoryPort).streamAll(any());
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        verify(repositoryPort).streamAll(any());
+    }
+
+    @Test
+    void add_ShouldMakeNewIdVisible() {
+        // Arrange
+        streamIds(EXISTING_ID);
+        filter.rebuild();
+
+        // Act
+        filter.add(UNKNOWN_ID);
+
+        // Assert
+        assertTrue(filter.mightContain(UNKNOWN_ID));
+    }
+
+    @Test
+    void add_ShouldNotBeLostWhenMadeDuringRebuild() {
+        // Arrange: the id is created while the rebuild is still streaming
+        doAnswer(invocation -> {
+            filter.add(UNKNOWN_ID);
+            return null;
+        }).when(repositoryPort).streamAll(any());
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertTrue(filter.mightContain(UNKNOWN_ID));
+    }
+
+    @Test
+    void reset_ShouldPassEverythingThroughUntilRebuilt() {
+        // Arrange
+        streamIds(EXISTING_ID);
+        filter.rebuild();
+
+        // Act
+        filter.reset();
+
+        // Assert
+        assertTrue(filter.mightContain(UNKNOWN_ID));
+    }
+
+    @Test
+    void start_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        filter.start();
+
+        // Assert
+        assertFalse(filter.isRunning());
+        verifyNoInteractions(repositoryPort);
+    }
+}
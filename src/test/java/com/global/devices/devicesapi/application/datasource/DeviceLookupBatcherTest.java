@@ -0,0 +1,158 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceLookupBatchingProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class DeviceLookupBatcherTest {
+
+    private DeviceRepositoryPort repositoryPort;
+    private SimpleMeterRegistry meterRegistry;
+    private DeviceLookupBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        repositoryPort = mock(DeviceRepositoryPort.class);
+        // Every requested id exists except those with a zero least-significant half
+        when(repositoryPort.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> id.getLeastSignificantBits() != 0)
+                    .map(id -> new Device(id, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now()))
+                    .toList();
+        });
+        meterRegistry = new SimpleMeterRegistry();
+
+        DeviceLookupBatchingProperties properties = new DeviceLookupBatchingProperties();
+        properties.setWindow(Duration.ofMillis(50));
+        properties.setMaxBatchSize(8);
+        batcher = new DeviceLookupBatcher(properties, repositoryPort, meterRegistry);
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+        batcher.destroy();
+    }
+
+    @Test
+    void findById_ShouldCoalesceConcurrentLookupsIntoFewQueries() throws Exception {
+        // Arrange
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Device>>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < callers; i++) {
+            UUID id = UUID.randomUUID();
+            results.add(pool.submit(() -> {
+                start.await();
+                return batcher.findById(id);
+            }));
+        }
+        start.countDown();
+        for (Future<Optional<Device>> result : results) {
+            assertTrue(result.get().isPresent());
+        }
+        pool.shutdown();
+
+        // Assert: 16 lookups with max batch size 8 need at least 2 and far fewer than 16 queries
+        verify(repositoryPort, atMost(4)).findAllByIds(anyCollection());
+        verify(repositoryPort, never()).findById(any());
+        assertEquals(callers, meterRegistry.get("devices.lookup.batch.size").summary().totalAmount());
+        assertEquals(callers, meterRegistry.get("devices.lookup.batch.queue.delay").timer().count());
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyForUnknownId() {
+        // Act
+        Optional<Device> result = batcher.findById(new UUID(42L, 0L));
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findById_ShouldPropagateQueryFailureToEveryCaller() {
+        // Arrange
+        when(repositoryPort.findAllByIds(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> batcher.findById(UUID.randomUUID()));
+        assertEquals("database down", ex.getMessage());
+    }
+
+    @Test
+    void findById_ShouldQueryDirectlyWhenStopped() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        batcher.stop();
+
+        // Act
+        batcher.findById(id);
+
+        // Assert
+        verify(repositoryPort, times(1)).findById(id);
+        verify(repositoryPort, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    void findById_ShouldRunNoMoreBatchesAtOnceThanAllowed() throws Exception {
+        // Arrange: one batch at a time, each query slow enough for the next batches to queue up
+        batcher.stop();
+        DeviceLookupBatchingProperties properties = new DeviceLookupBatchingProperties();
+        properties.setWindow(Duration.ofMillis(1));
+        properties.setMaxBatchSize(2);
+        properties.setMaxConcurrentBatches(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(repositoryPort.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of();
+        });
+        DeviceLookupBatcher bounded = new DeviceLookupBatcher(properties, repositoryPort, meterRegistry);
+        bounded.start();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Optional<Device>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> bounded.findById(UUID.randomUUID())));
+        }
+        for (Future<Optional<Device>> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS).isEmpty());
+        }
+        pool.shutdown();
+        bounded.stop();
+        bounded.destroy();
+
+        // Assert
+        assertEquals(1, maxRunning.get());
+    }
+}
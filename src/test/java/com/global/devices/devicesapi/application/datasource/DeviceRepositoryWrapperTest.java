@@ -1,17 +1,22 @@
 package com.global.devices.devicesapi.application.datasource;
 
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.config.DeviceIdFilterProperties;
 import com.global.devices.devicesapi.domain.model.Device;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,8 +30,10 @@ class DeviceRepositoryWrapperTest { // Corrected class name based on the service
     @Mock
     private DeviceRepositoryPort deviceRepositoryPort;
 
-    // Inject the mocks into the class being tested
-    @InjectMocks
+    private DeviceCache deviceCache;
+
+    private DeviceIdFilter deviceIdFilter;
+
     private DeviceRepositoryWrapper deviceRepositoryWrapper;
 
     private Device mockDevice;
@@ -35,6 +42,11 @@ class DeviceRepositoryWrapperTest { // Corrected class name based on the service
 
     @BeforeEach
     void setUp() {
+        deviceCache = new DeviceCache(new DeviceCacheProperties(), new SimpleMeterRegistry());
+        // Disabled by default, so every id passes through to the cache and the port
+        deviceIdFilter = new DeviceIdFilter(new DeviceIdFilterProperties(), deviceRepositoryPort, new SimpleMeterRegistry());
+        deviceRepositoryWrapper = new DeviceRepositoryWrapper(deviceRepositoryPort, deviceCache, deviceIdFilter, Optional.empty());
+
         // FIX: Replaced Device.builder() with the all-arguments constructor
         // to match the structure of your domain model:
         // public Device(UUID id, String name, String brand, DeviceState state, Instant creationTime)
@@ -144,4 +156,258 @@ class DeviceRepositoryWrapperTest { // Corrected class name based on the service
         // Verify that the port's deleteById method was called exactly once
         verify(deviceRepositoryPort, times(1)).deleteById(TEST_ID);
     }
-}
\ No newline at end of file
+
+    // --- 7. Test cache behaviour ---
+
+    @Test
+    void findById_ShouldServeRepeatedLookupsFromCache() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+
+        // Act
+        deviceRepositoryWrapper.findById(TEST_ID);
+        Optional<Device> result = deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        verify(deviceRepositoryPort, times(1)).findById(TEST_ID);
+        assertTrue(result.isPresent());
+        assertEquals(1, deviceCache.stats().hitCount());
+        assertEquals(1, deviceCache.stats().missCount());
+    }
+
+    @Test
+    void findById_ShouldRememberMissingDevicesBriefly() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.empty());
+
+        // Act
+        deviceRepositoryWrapper.findById(TEST_ID);
+        Optional<Device> result = deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert: the second miss is answered by the negative cache
+        assertTrue(result.isEmpty());
+        verify(deviceRepositoryPort, times(1)).findById(TEST_ID);
+        assertEquals(0, deviceCache.estimatedSize());
+    }
+
+    @Test
+    void saveDevice_ShouldRefreshCachedEntry() {
+        // Arrange
+        Device original = new Device(TEST_ID, "Sensor", "Acme", DeviceState.AVAILABLE, TEST_TIME, 1L);
+        Device updated = new Device(TEST_ID, "Renamed", "Acme", DeviceState.INACTIVE, TEST_TIME, 2L);
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(original));
+        when(deviceRepositoryPort.save(updated)).thenReturn(updated);
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        deviceRepositoryWrapper.saveDevice(updated);
+        Optional<Device> result = deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        verify(deviceRepositoryPort, times(1)).findById(TEST_ID);
+        assertEquals("Renamed", result.get().getName());
+    }
+
+    @Test
+    void findVersionById_ShouldUseCachedDeviceWithoutQuery() {
+        // Arrange
+        Device versioned = new Device(TEST_ID, "Test Device", "Acme", DeviceState.AVAILABLE, TEST_TIME, 5L);
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(versioned));
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        Optional<Long> result = deviceRepositoryWrapper.findVersionById(TEST_ID);
+
+        // Assert
+        assertEquals(Optional.of(5L), result);
+        verify(deviceRepositoryPort, never()).findVersionById(any());
+    }
+
+    @Test
+    void findVersionById_ShouldQueryPortOnCacheMiss() {
+        // Arrange
+        when(deviceRepositoryPort.findVersionById(TEST_ID)).thenReturn(Optional.of(2L));
+
+        // Act
+        Optional<Long> result = deviceRepositoryWrapper.findVersionById(TEST_ID);
+
+        // Assert
+        assertEquals(Optional.of(2L), result);
+        verify(deviceRepositoryPort, never()).findById(any());
+    }
+
+    @Test
+    void deleteDeviceById_ShouldEvictCachedEntry() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice), Optional.empty());
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        deviceRepositoryWrapper.deleteDeviceById(TEST_ID);
+        Optional<Device> result = deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        verify(deviceRepositoryPort, times(2)).findById(TEST_ID);
+        assertTrue(result.isEmpty());
+    }
+
+    // --- 8. Test conditional writes ---
+
+    @Test
+    void updateIfNotInUse_ShouldCacheUpdatedDevice() {
+        // Arrange
+        Device updated = new Device(TEST_ID, "Renamed", "Acme", DeviceState.INACTIVE, TEST_TIME, 1L);
+        when(deviceRepositoryPort.updateIfNotInUse(TEST_ID, "Renamed", null, null)).thenReturn(Optional.of(updated));
+
+        // Act
+        deviceRepositoryWrapper.updateIfNotInUse(TEST_ID, "Renamed", null, null);
+        Optional<Device> result = deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        assertEquals("Renamed", result.get().getName());
+        verify(deviceRepositoryPort, never()).findById(any());
+    }
+
+    @Test
+    void updateIfNotInUse_ShouldEvictCachedEntryWhenNothingWasUpdated() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+        when(deviceRepositoryPort.updateIfNotInUse(TEST_ID, "Renamed", null, null)).thenReturn(Optional.empty());
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        deviceRepositoryWrapper.updateIfNotInUse(TEST_ID, "Renamed", null, null);
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        verify(deviceRepositoryPort, times(2)).findById(TEST_ID);
+    }
+
+    @Test
+    void deleteIfNotInUse_ShouldEvictCachedEntry() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice), Optional.empty());
+        when(deviceRepositoryPort.deleteIfNotInUse(TEST_ID)).thenReturn(true);
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        boolean deleted = deviceRepositoryWrapper.deleteIfNotInUse(TEST_ID);
+
+        // Assert
+        assertTrue(deleted);
+        assertTrue(deviceRepositoryWrapper.findById(TEST_ID).isEmpty());
+    }
+
+    @Test
+    void changeStateIfNotInUse_ShouldEvictEveryRequestedId() {
+        // Arrange
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+        when(deviceRepositoryPort.changeStateIfNotInUse(List.of(TEST_ID), DeviceState.INACTIVE))
+                .thenReturn(new DeviceStateChange(Set.of(TEST_ID), Set.of()));
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        deviceRepositoryWrapper.changeStateIfNotInUse(List.of(TEST_ID), DeviceState.INACTIVE);
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Assert
+        verify(deviceRepositoryPort, times(2)).findById(TEST_ID);
+    }
+
+    // --- 9. Test findAllByIds ---
+
+    @Test
+    void findAllByIds_ShouldQueryPortOnlyForUncachedIds() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        Device other = new Device(otherId, "Other", "Acme", DeviceState.AVAILABLE, TEST_TIME);
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+        when(deviceRepositoryPort.findAllByIds(Set.of(otherId))).thenReturn(List.of(other));
+        deviceRepositoryWrapper.findById(TEST_ID);
+
+        // Act
+        Map<UUID, Device> result = deviceRepositoryWrapper.findAllByIds(List.of(TEST_ID, otherId));
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(deviceRepositoryPort, times(1)).findAllByIds(Set.of(otherId));
+    }
+
+    @Test
+    void findById_ShouldLoadThroughBatcherWhenEnabled() {
+        // Arrange
+        DeviceLookupBatcher batcher = mock(DeviceLookupBatcher.class);
+        when(batcher.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+        var batchingWrapper = new DeviceRepositoryWrapper(deviceRepositoryPort, deviceCache, deviceIdFilter, Optional.of(batcher));
+
+        // Act
+        Optional<Device> result = batchingWrapper.findById(TEST_ID);
+
+        // Assert
+        assertEquals(mockDevice, result.get());
+        verify(deviceRepositoryPort, never()).findById(any());
+    }
+
+    // --- 10. Test id filter ---
+
+    @Test
+    void findById_ShouldConfirmFilterMissWithExistenceCheckInsteadOfLoading() {
+        // Arrange: a built filter over an empty table
+        DeviceIdFilterProperties properties = new DeviceIdFilterProperties();
+        properties.setEnabled(true);
+        DeviceIdFilter builtFilter = new DeviceIdFilter(properties, deviceRepositoryPort, new SimpleMeterRegistry());
+        builtFilter.rebuild();
+        var filteringWrapper = new DeviceRepositoryWrapper(deviceRepositoryPort, deviceCache, builtFilter, Optional.empty());
+        when(deviceRepositoryPort.existsById(TEST_ID)).thenReturn(false);
+
+        // Act
+        Optional<Device> first = filteringWrapper.findById(TEST_ID);
+        Optional<Device> second = filteringWrapper.findById(TEST_ID);
+
+        // Assert: one existence check, the repeat is answered by the negative cache
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(deviceRepositoryPort, times(1)).existsById(TEST_ID);
+        verify(deviceRepositoryPort, never()).findById(any());
+    }
+
+    @Test
+    void findById_ShouldFindDeviceCreatedElsewhereBeforeFilterHearsOfIt() {
+        // Arrange: created on another node, its notification not processed yet
+        DeviceIdFilterProperties properties = new DeviceIdFilterProperties();
+        properties.setEnabled(true);
+        DeviceIdFilter builtFilter = new DeviceIdFilter(properties, deviceRepositoryPort, new SimpleMeterRegistry());
+        builtFilter.rebuild();
+        var filteringWrapper = new DeviceRepositoryWrapper(deviceRepositoryPort, deviceCache, builtFilter, Optional.empty());
+        when(deviceRepositoryPort.existsById(TEST_ID)).thenReturn(true);
+        when(deviceRepositoryPort.findById(TEST_ID)).thenReturn(Optional.of(mockDevice));
+        when(deviceRepositoryPort.findAllByIds(any())).thenReturn(List.of(mockDevice));
+
+        // Act
+        Optional<Device> result = filteringWrapper.findById(TEST_ID);
+        deviceCache.evictAll();
+        Map<UUID, Device> batch = filteringWrapper.findAllByIds(List.of(TEST_ID));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(Map.of(TEST_ID, mockDevice), batch);
+        assertTrue(builtFilter.mightContain(TEST_ID));
+    }
+
+    @Test
+    void saveDevice_ShouldAddIdToFilter() {
+        // Arrange
+        DeviceIdFilterProperties properties = new DeviceIdFilterProperties();
+        properties.setEnabled(true);
+        DeviceIdFilter builtFilter = new DeviceIdFilter(properties, deviceRepositoryPort, new SimpleMeterRegistry());
+        builtFilter.rebuild();
+        var filteringWrapper = new DeviceRepositoryWrapper(deviceRepositoryPort, deviceCache, builtFilter, Optional.empty());
+        when(deviceRepositoryPort.save(mockDevice)).thenReturn(mockDevice);
+
+        // Act
+        filteringWrapper.saveDevice(mockDevice);
+
+        // Assert
+        assertTrue(builtFilter.mightContain(TEST_ID));
+    }
+}
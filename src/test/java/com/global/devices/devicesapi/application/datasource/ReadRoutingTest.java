@@ -0,0 +1,44 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadRoutingTest {
+
+    @Test
+    void preferReplica_ShouldLastUntilScopeIsClosed() {
+        // Act & Assert
+        assertFalse(ReadRouting.isReplicaPreferred());
+        try (var replica = ReadRouting.preferReplica()) {
+            assertTrue(ReadRouting.isReplicaPreferred());
+        }
+        assertFalse(ReadRouting.isReplicaPreferred());
+    }
+
+    @Test
+    void requirePrimary_ShouldWinOverReplicaPreferenceInEitherOrder() {
+        // Act & Assert
+        try (var primary = ReadRouting.requirePrimary(); var replica = ReadRouting.preferReplica()) {
+            assertFalse(ReadRouting.isReplicaPreferred());
+        }
+        try (var replica = ReadRouting.preferReplica()) {
+            try (var primary = ReadRouting.requirePrimary()) {
+                assertFalse(ReadRouting.isReplicaPreferred());
+            }
+            assertTrue(ReadRouting.isReplicaPreferred());
+        }
+    }
+
+    @Test
+    void nestedScopes_ShouldRestoreOuterHint() {
+        // Act & Assert
+        try (var outer = ReadRouting.preferReplica()) {
+            try (var inner = ReadRouting.preferReplica()) {
+                assertTrue(ReadRouting.isReplicaPreferred());
+            }
+            assertTrue(ReadRouting.isReplicaPreferred());
+        }
+        assertFalse(ReadRouting.isReplicaPreferred());
+    }
+}
@@ -0,0 +1,87 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final AtomicInteger joined = new AtomicInteger();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(joined::incrementAndGet);
+
+    @Test
+    void execute_ShouldRunOneLoadForConcurrentCallersOfTheSameKey() throws Exception {
+        // Arrange
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act: the first caller blocks inside the loader until every other caller has joined
+        results.add(pool.submit(() -> singleFlight.execute("hot", key -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(release);
+            return "value";
+        })));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < callers; i++) {
+            results.add(pool.submit(() -> singleFlight.execute("hot", key -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (joined.get() < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        pool.shutdown();
+    }
+
+    @Test
+    void execute_ShouldLoadAgainOnceThePreviousLoadFinished() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("key", key -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("key", key -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v2", second);
+        assertEquals(0, joined.get());
+    }
+
+    @Test
+    void execute_ShouldPropagateLoaderFailureAndRecover() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("key", key -> { throw new IllegalStateException("boom"); }));
+        assertEquals("ok", singleFlight.execute("key", key -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
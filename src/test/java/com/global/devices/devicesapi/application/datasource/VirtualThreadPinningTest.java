@@ -0,0 +1,145 @@
+package com.global.devices.devicesapi.application.datasource;
+
+import com.global.devices.devicesapi.config.DeviceCacheProperties;
+import com.global.devices.devicesapi.config.DeviceLookupBatchingProperties;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/*
+Runs the blocking paths that request threads go through on virtual threads while a slow
+"database" sleeps, and records jdk.VirtualThreadPinned with JFR. A synchronized block (or a
+Caffeine/ConcurrentHashMap compute) around the load would pin the carrier for the whole sleep.
+*/
+class VirtualThreadPinningTest {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final Duration DB_LATENCY = Duration.ofMillis(30);
+
+    @TempDir
+    Path tempDir;
+
+    // --- 1. The probe itself notices pinning ---
+
+    @Test
+    void recording_ShouldReportSleepInsideSynchronized() throws Exception {
+        // Arrange
+        Object lock = new Object();
+
+        // Act
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            synchronized (lock) {
+                sleep();
+            }
+            return null;
+        }, 1);
+
+        // Assert
+        assertFalse(pinned.isEmpty());
+    }
+
+    // --- 2. Request paths ---
+
+    @Test
+    void deviceCache_ShouldNotPinWhileLoading() throws Exception {
+        // Arrange: half the callers share one id and join its in-flight load
+        DeviceCache cache = new DeviceCache(new DeviceCacheProperties(), new SimpleMeterRegistry());
+        UUID shared = UUID.randomUUID();
+
+        // Act
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            UUID id = Math.random() < 0.5 ? shared : UUID.randomUUID();
+            return cache.get(id, key -> {
+                sleep();
+                return Optional.of(device(key));
+            });
+        }, 50);
+
+        // Assert
+        assertEquals(List.of(), pinned);
+    }
+
+    @Test
+    void deviceLookupBatcher_ShouldNotPinCallersWaitingOnTheirBatch() throws Exception {
+        // Arrange
+        DeviceRepositoryPort repositoryPort = mock(DeviceRepositoryPort.class);
+        when(repositoryPort.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            sleep();
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(VirtualThreadPinningTest::device).toList();
+        });
+        DeviceLookupBatchingProperties properties = new DeviceLookupBatchingProperties();
+        properties.setWindow(Duration.ofMillis(5));
+        DeviceLookupBatcher batcher = new DeviceLookupBatcher(properties, repositoryPort, new SimpleMeterRegistry());
+        batcher.start();
+
+        try {
+            // Act
+            List<RecordedEvent> pinned = recordPinning(() -> batcher.findById(UUID.randomUUID()), 50);
+
+            // Assert
+            assertEquals(List.of(), pinned);
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    private List<RecordedEvent> recordPinning(Callable<?> task, int callers) throws Exception {
+        Path file = tempDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED).withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    results.add(executor.submit(task));
+                }
+                for (Future<?> result : results) {
+                    result.get(10, TimeUnit.SECONDS);
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED))
+                .toList();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(DB_LATENCY);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Device device(UUID id) {
+        return new Device(id, "Sensor", "Acme", DeviceState.AVAILABLE, Instant.now());
+    }
+}
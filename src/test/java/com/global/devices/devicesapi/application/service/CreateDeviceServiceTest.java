@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,4 +76,20 @@ class CreateDeviceServiceTest {
         assertEquals(request.getState(), response.getState(), "State should be mapped correctly.");
         assertEquals(TEST_TIME, response.getCreationTime(), "CreationTime should be mapped correctly.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAll_ShouldSaveAllDevicesInOneCallAndKeepOrder() {
+        // Arrange
+        DeviceUseCaseRequest second = DeviceUseCaseRequest.builder()
+                .name("Phone").brand("TechCorp").state(DeviceState.IN_USE).build();
+        when(repository.saveAllDevices(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<DeviceUseCaseResponse> responses = createDeviceService.createAll(List.of(request, second));
+
+        // Assert
+        verify(repository, times(1)).saveAllDevices(anyList());
+        verify(repository, never()).saveDevice(any());
+        assertEquals(List.of("New Laptop", "Phone"), responses.stream().map(DeviceUseCaseResponse::getName).toList());
+    }
+}
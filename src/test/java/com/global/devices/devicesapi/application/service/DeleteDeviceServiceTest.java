@@ -3,18 +3,13 @@ package com.global.devices.devicesapi.application.service;
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
-import com.global.devices.devicesapi.domain.model.Device;
-import com.global.devices.devicesapi.domain.model.DeviceState;
 import com.global.devices.devicesapi.domain.validation.DeviceValidator;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.Instant;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,41 +31,22 @@ class DeleteDeviceServiceTest {
     private DeleteDeviceService deleteDeviceService;
 
     private final UUID TEST_ID = UUID.randomUUID();
-    private Device activeDevice;
-
-    @BeforeEach
-    void setUp() {
-        // Setup a mock Device object that will be returned when found
-        activeDevice = new Device(
-                TEST_ID,
-                "Device to Delete",
-                "Brand",
-                DeviceState.AVAILABLE,
-                Instant.now()
-        );
-    }
 
     // --- 1. Test Successful Deletion (Happy Path) ---
 
     @Test
-    void deleteDevice_ShouldFindValidateAndDeleteWhenSuccessful() {
+    void deleteDevice_ShouldDeleteInOneConditionalStatement() {
         // Arrange
-        // 1. Repository finds the device
-        when(repository.findById(TEST_ID)).thenReturn(Optional.of(activeDevice));
-        // 2. Validator passes (i.e., does nothing/doesn't throw)
-        doNothing().when(deviceValidator).validateStatus(activeDevice);
-        // 3. Repository delete call is observed
+        when(repository.deleteIfNotInUse(TEST_ID)).thenReturn(true);
 
         // Act
         deleteDeviceService.deleteDevice(TEST_ID);
 
-        // Assert
-        // Verify 1: Device was found
-        verify(repository, times(1)).findById(TEST_ID);
-        // Verify 2: Status validation was performed on the retrieved device
-        verify(deviceValidator, times(1)).validateStatus(activeDevice);
-        // Verify 3: The delete operation was called on the repository
-        verify(repository, times(1)).deleteDeviceById(TEST_ID);
+        // Assert: no lookup and no separate validation on the happy path
+        verify(repository, times(1)).deleteIfNotInUse(TEST_ID);
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).existsById(any(UUID.class));
+        verifyNoInteractions(deviceValidator);
     }
 
     // --- 2. Test Device Not Found Scenario ---
@@ -78,8 +54,8 @@ class DeleteDeviceServiceTest {
     @Test
     void deleteDevice_ShouldThrowDeviceNotFoundException() {
         // Arrange
-        // Repository returns an empty Optional
-        when(repository.findById(TEST_ID)).thenReturn(Optional.empty());
+        when(repository.deleteIfNotInUse(TEST_ID)).thenReturn(false);
+        when(repository.existsById(TEST_ID)).thenReturn(false);
 
         // Act & Assert
         DeviceNotFoundException exception = assertThrows(
@@ -90,32 +66,24 @@ class DeleteDeviceServiceTest {
 
         // Assert 2: Check the exception message
         assertTrue(exception.getMessage().contains("Device with id " + TEST_ID + " not found"));
-
-        // Assert 3: Verify NO validation or deletion was attempted
-        verify(deviceValidator, never()).validateStatus(any(Device.class));
-        verify(repository, never()).deleteDeviceById(any(UUID.class));
+        verifyNoInteractions(deviceValidator);
     }
 
-    // --- 3. Test Validation Failure Scenario ---
+    // --- 3. Test In-Use Scenario ---
 
     @Test
-    void deleteDevice_ShouldThrowInvalidOperationExceptionWhenValidationFails() {
+    void deleteDevice_ShouldThrowInvalidOperationExceptionWhenDeviceIsInUse() {
         // Arrange
-        // 1. Repository finds the device
-        when(repository.findById(TEST_ID)).thenReturn(Optional.of(activeDevice));
-        // 2. Validator throws a business exception (e.g., if the state is IN_USE)
-        doThrow(new InvalidOperationException("In-use devices cannot be deleted"))
-                .when(deviceValidator).validateStatus(activeDevice);
+        when(repository.deleteIfNotInUse(TEST_ID)).thenReturn(false);
+        when(repository.existsById(TEST_ID)).thenReturn(true);
+        when(deviceValidator.inUse(TEST_ID)).thenReturn(new InvalidOperationException("In-use devices cannot be deleted"));
 
         // Act & Assert
         assertThrows(
                 InvalidOperationException.class,
                 () -> deleteDeviceService.deleteDevice(TEST_ID),
-                "Expected InvalidOperationException to be thrown when validation fails."
+                "Expected InvalidOperationException to be thrown when the device is in use."
         );
-
-        // Assert 2: Verify validation was attempted but deletion was NOT called
-        verify(deviceValidator, times(1)).validateStatus(activeDevice);
         verify(repository, never()).deleteDeviceById(any(UUID.class));
     }
-}
\ No newline at end of file
+}
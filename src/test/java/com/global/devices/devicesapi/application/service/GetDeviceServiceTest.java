@@ -1,9 +1,12 @@
 package com.global.devices.devicesapi.application.service;
 
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
+import com.global.devices.devicesapi.application.usecase.dto.DeviceBatch;
+import com.global.devices.devicesapi.application.usecase.dto.DevicePage;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceCursor;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +16,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -116,6 +123,105 @@ class GetDeviceServiceTest {
         verify(repository, times(1)).findById(TEST_ID);
     }
 
+    @Test
+    void findVersion_ShouldDelegateToRepository() {
+        // Arrange
+        when(repository.findVersionById(TEST_ID)).thenReturn(Optional.of(7L));
+
+        // Act
+        Optional<Long> result = getDeviceService.findVersion(TEST_ID);
+
+        // Assert
+        verify(repository, times(1)).findVersionById(TEST_ID);
+        assertEquals(Optional.of(7L), result);
+    }
+
+    @Test
+    void getChangeSequence_ShouldDelegateToRepository() {
+        // Arrange
+        when(repository.currentChangeSequence()).thenReturn(42L);
+
+        // Act & Assert
+        assertEquals(42L, getDeviceService.getChangeSequence());
+    }
+
+    @Test
+    void readSnapshot_ShouldDelegateToRepository() {
+        // Arrange
+        when(repository.readSnapshot(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        // Act & Assert
+        assertEquals("page", getDeviceService.readSnapshot(() -> "page"));
+        verify(repository, times(1)).readSnapshot(any());
+    }
+
+    @Test
+    void exportAll_ShouldMapEachStreamedDevice() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Device> consumer = invocation.getArgument(0);
+            consumer.accept(mockActiveDevice);
+            consumer.accept(mockInactiveDevice);
+            return null;
+        }).when(repository).streamAllDevices(any());
+        List<DeviceUseCaseResponse> exported = new ArrayList<>();
+
+        // Act
+        getDeviceService.exportAll(exported::add);
+
+        // Assert
+        assertEquals(List.of(mockActiveDevice.getId(), mockInactiveDevice.getId()),
+                exported.stream().map(DeviceUseCaseResponse::getId).toList());
+    }
+
+    @Test
+    void getByIds_ShouldKeepRequestOrderAndReportMissing() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        when(repository.findAllByIds(any())).thenReturn(Map.of(
+                mockActiveDevice.getId(), mockActiveDevice,
+                mockInactiveDevice.getId(), mockInactiveDevice));
+
+        // Act
+        DeviceBatch batch = getDeviceService.getByIds(
+                List.of(mockInactiveDevice.getId(), missingId, mockActiveDevice.getId(), missingId));
+
+        // Assert
+        verify(repository, times(1)).findAllByIds(any());
+        assertEquals(List.of(mockInactiveDevice.getId(), mockActiveDevice.getId()),
+                batch.items().stream().map(DeviceUseCaseResponse::getId).toList());
+        assertEquals(List.of(missingId), batch.missing());
+    }
+
+    // --- Keyset pages ---
+
+    @Test
+    void getPage_ShouldReturnNextCursorWhenExtraRowIsFetched() {
+        // Arrange
+        when(repository.findPage(null, 2)).thenReturn(List.of(mockActiveDevice, mockInactiveDevice));
+
+        // Act
+        DevicePage page = getDeviceService.getPage(null, 1);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertEquals(DeviceCursor.of(mockActiveDevice), page.next());
+    }
+
+    @Test
+    void getPageByState_ShouldReturnNoCursorOnLastPage() {
+        // Arrange
+        DeviceCursor after = DeviceCursor.of(mockInactiveDevice);
+        when(repository.findPageByState(DeviceState.AVAILABLE, after, 3)).thenReturn(List.of(mockActiveDevice));
+
+        // Act
+        DevicePage page = getDeviceService.getPageByState(DeviceState.AVAILABLE, after, 2);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.next());
+    }
+
     // --- 3. Test getByBrand ---
 
     @Test
@@ -1,12 +1,14 @@
 package com.global.devices.devicesapi.application.service;
 
 import com.global.devices.devicesapi.application.datasource.DeviceRepositoryWrapper;
+import com.global.devices.devicesapi.application.usecase.dto.BulkStateChangeResult;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseRequest;
 import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
 import com.global.devices.devicesapi.domain.exception.DeviceNotFoundException;
 import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
 import com.global.devices.devicesapi.domain.model.Device;
 import com.global.devices.devicesapi.domain.model.DeviceState;
+import com.global.devices.devicesapi.domain.model.DeviceStateChange;
 import com.global.devices.devicesapi.domain.validation.DeviceValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,11 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,61 +76,44 @@ class UpdateDeviceServiceTest {
                 .brand("NewBrand")
                 .state(DeviceState.INACTIVE)
                 .build();
-
-        // Mock the findById to return the existing device
-        when(repository.findById(TEST_ID)).thenReturn(Optional.of(existingDevice));
-        // Mock validation to pass (do nothing)
-        doNothing().when(deviceValidator).validateStatus(existingDevice);
-
-        // Mock the save operation to return the updated domain object.
-        // We use ArgumentCaptor to capture the object passed to saveDevice.
-        when(repository.saveDevice(any(Device.class))).thenAnswer(invocation -> {
-            Device saved = invocation.getArgument(0);
-            // Verify the object constructed is correct before returning
-            assertEquals("NewName", saved.getName());
-            assertEquals(existingDevice.getCreationTime(), saved.getCreationTime());
-            return saved;
-        });
+        Device updated = new Device(TEST_ID, "NewName", "NewBrand", DeviceState.INACTIVE, TEST_TIME, 1L);
+        when(repository.replaceIfNotInUse(TEST_ID, "NewName", "NewBrand", DeviceState.INACTIVE))
+                .thenReturn(Optional.of(updated));
 
         // Act
-        // NOTE: We cannot easily verify the final mapped response here without mocking
-        // the Device::toUseCaseResponse method, but we verify the service logic and save delegation.
-        updateDeviceService.update(TEST_ID, updateRequest);
+        DeviceUseCaseResponse response = updateDeviceService.update(TEST_ID, updateRequest);
 
-        // Assert
-        verify(deviceValidator, times(1)).validateStatus(existingDevice);
-        verify(repository, times(1)).saveDevice(any(Device.class));
+        // Assert: one conditional write, no read-then-check
+        assertEquals("NewName", response.getName());
+        assertEquals(1L, response.getVersion());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).existsById(any());
     }
 
     @Test
     void update_ShouldThrowNotFoundExceptionWhenDeviceDoesNotExist() {
         // Arrange
-        when(repository.findById(TEST_ID)).thenReturn(Optional.empty());
+        when(repository.replaceIfNotInUse(TEST_ID, null, null, null)).thenReturn(Optional.empty());
+        when(repository.existsById(TEST_ID)).thenReturn(false);
         DeviceUseCaseRequest updateRequest = DeviceUseCaseRequest.builder().build();
 
         // Act & Assert
         assertThrows(DeviceNotFoundException.class,
                 () -> updateDeviceService.update(TEST_ID, updateRequest));
-
-        // Verify no validation or saving occurred
-        verify(deviceValidator, never()).validateStatus(any());
-        verify(repository, never()).saveDevice(any());
+        verify(deviceValidator, never()).inUse(any());
     }
 
     @Test
-    void update_ShouldThrowInvalidOperationExceptionWhenValidationFails() {
+    void update_ShouldThrowInvalidOperationExceptionWhenDeviceIsInUse() {
         // Arrange
         DeviceUseCaseRequest updateRequest = DeviceUseCaseRequest.builder().build();
-        when(repository.findById(TEST_ID)).thenReturn(Optional.of(existingDevice));
-        // Mock validation to fail
-        doThrow(new InvalidOperationException("Device is in use")).when(deviceValidator).validateStatus(existingDevice);
+        when(repository.replaceIfNotInUse(TEST_ID, null, null, null)).thenReturn(Optional.empty());
+        when(repository.existsById(TEST_ID)).thenReturn(true);
+        when(deviceValidator.inUse(TEST_ID)).thenReturn(new InvalidOperationException("Device is in use"));
 
         // Act & Assert
         assertThrows(InvalidOperationException.class,
                 () -> updateDeviceService.update(TEST_ID, updateRequest));
-
-        // Verify save was not called
-        verify(repository, never()).saveDevice(any());
     }
 
     // --- B. Tests for PARTIAL UPDATE (patch method) ---
@@ -135,26 +122,31 @@ class UpdateDeviceServiceTest {
     void patch_ShouldUpdateOnlyNameAndPreserveOthers() {
         // Arrange
         Map<String, Object> updatedFields = Map.of("name", "New Patched Name");
-        when(repository.findById(TEST_ID)).thenReturn(Optional.of(existingDevice));
-        doNothing().when(deviceValidator).validateStatus(existingDevice);
+        Device patched = new Device(TEST_ID, "New Patched Name", existingDevice.getBrand(), existingDevice.getState(),
+                TEST_TIME, 1L);
+        when(repository.updateIfNotInUse(TEST_ID, "New Patched Name", null, null)).thenReturn(Optional.of(patched));
 
-        ArgumentCaptor<Device> deviceCaptor = ArgumentCaptor.forClass(Device.class);
+        // Act
+        DeviceUseCaseResponse response = updateDeviceService.patch(TEST_ID, updatedFields);
 
-        // Mock the save operation
-        when(repository.saveDevice(any(Device.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // Assert: absent fields go down as null so the stored values are kept
+        assertEquals("New Patched Name", response.getName());
+        assertEquals(existingDevice.getBrand(), response.getBrand());
+        assertEquals(existingDevice.getState(), response.getState());
+    }
+
+    @Test
+    void patch_ShouldPassParsedState() {
+        // Arrange
+        Map<String, Object> updatedFields = Map.of("state", "INACTIVE");
+        when(repository.updateIfNotInUse(TEST_ID, null, null, DeviceState.INACTIVE))
+                .thenReturn(Optional.of(existingDevice));
 
         // Act
         updateDeviceService.patch(TEST_ID, updatedFields);
 
         // Assert
-        // Capture the device passed to the save method
-        verify(repository, times(1)).saveDevice(deviceCaptor.capture());
-        Device savedDevice = deviceCaptor.getValue();
-
-        // Assert that only NAME changed, others preserved
-        assertEquals("New Patched Name", savedDevice.getName());
-        assertEquals(existingDevice.getBrand(), savedDevice.getBrand()); // Old brand preserved
-        assertEquals(existingDevice.getState(), savedDevice.getState()); // Old state preserved
+        verify(repository, times(1)).updateIfNotInUse(TEST_ID, null, null, DeviceState.INACTIVE);
     }
 
     @Test
@@ -162,28 +154,73 @@ class UpdateDeviceServiceTest {
         // Arrange
         Map<String, Object> updatedFields = Map.of("creationTime", Instant.now().toString());
         when(repository.findById(TEST_ID)).thenReturn(Optional.of(existingDevice));
-        doNothing().when(deviceValidator).validateStatus(existingDevice);
 
         // Act & Assert
         assertThrows(InvalidOperationException.class,
                 () -> updateDeviceService.patch(TEST_ID, updatedFields),
                 "Should prevent updating creationTime.");
 
-        // Verify save was not called
-        verify(repository, never()).saveDevice(any());
+        // Verify nothing was written
+        verify(repository, never()).updateIfNotInUse(any(), any(), any(), any());
     }
 
     @Test
-    void patch_ShouldThrowNotFoundExceptionWhenDeviceDoesNotExist() {
+    void patch_ShouldReportMissingDeviceBeforeRejectingCreationTime() {
         // Arrange
+        Map<String, Object> updatedFields = Map.of("creationTime", Instant.now().toString());
         when(repository.findById(TEST_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(DeviceNotFoundException.class,
+                () -> updateDeviceService.patch(TEST_ID, updatedFields));
+        verify(repository, never()).updateIfNotInUse(any(), any(), any(), any());
+    }
+
+    @Test
+    void patch_ShouldRejectExplicitNullInsteadOfKeepingStoredValue() {
+        // Arrange: every column is NOT NULL, so "name": null cannot clear the name
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put("name", null);
+        when(repository.findById(TEST_ID)).thenReturn(Optional.of(existingDevice));
+
+        // Act & Assert
+        InvalidOperationException ex = assertThrows(InvalidOperationException.class,
+                () -> updateDeviceService.patch(TEST_ID, updatedFields));
+        assertTrue(ex.getMessage().contains("name can not be null"));
+        verify(repository, never()).updateIfNotInUse(any(), any(), any(), any());
+    }
+
+    @Test
+    void patch_ShouldThrowNotFoundExceptionWhenDeviceDoesNotExist() {
+        // Arrange
+        when(repository.updateIfNotInUse(TEST_ID, "New Name", null, null)).thenReturn(Optional.empty());
+        when(repository.existsById(TEST_ID)).thenReturn(false);
         Map<String, Object> updatedFields = Map.of("name", "New Name");
 
         // Act & Assert
         assertThrows(DeviceNotFoundException.class,
                 () -> updateDeviceService.patch(TEST_ID, updatedFields));
+    }
+
+    // --- C. Tests for BULK STATE CHANGE (changeState method) ---
 
-        // Verify no validation or save was called
-        verify(repository, never()).saveDevice(any());
+    @Test
+    void changeState_ShouldSplitIdsByOutcomeInRequestOrder() {
+        // Arrange
+        UUID changedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID rejectedId = UUID.randomUUID();
+        when(repository.changeStateIfNotInUse(any(), eq(DeviceState.INACTIVE)))
+                .thenReturn(new DeviceStateChange(Set.of(changedId), Set.of(rejectedId)));
+
+        // Act
+        BulkStateChangeResult result = updateDeviceService.changeState(
+                List.of(rejectedId, missingId, changedId, changedId), DeviceState.INACTIVE);
+
+        // Assert: one repository call, duplicates collapsed
+        verify(repository, times(1)).changeStateIfNotInUse(argThat(ids -> ids.size() == 3), eq(DeviceState.INACTIVE));
+        assertEquals(List.of(changedId), result.changed());
+        assertEquals(List.of(missingId), result.missing());
+        assertEquals(List.of(rejectedId), result.rejected());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.global.devices.devicesapi.application.usecase.mapper;
+
+import com.global.devices.devicesapi.application.usecase.dto.DeviceUseCaseResponse;
+import com.global.devices.devicesapi.domain.model.Device;
+import com.global.devices.devicesapi.domain.model.DeviceState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceUseCaseMapperTest {
+
+    private final DeviceUseCaseMapper mapper = DeviceUseCaseMapper.INSTANCE;
+    private final Device device = new Device(UUID.randomUUID(), "Sensor", "Acme",
+            DeviceState.INACTIVE, Instant.now(), 5L);
+
+    @Test
+    void toUseCaseResponse_ShouldMapAllFieldsIncludingVersion() {
+        // Act
+        DeviceUseCaseResponse response = mapper.toUseCaseResponse(device);
+
+        // Assert
+        assertEquals(new DeviceUseCaseResponse(device.getId(), "Sensor", "Acme", DeviceState.INACTIVE,
+                device.getCreationTime(), 5L), response);
+    }
+
+    @Test
+    void toUseCaseResponseList_ShouldReturnNullForNullInput() {
+        // Act & Assert: callers such as GetDeviceService guard against null themselves
+        assertNull(mapper.toUseCaseResponseList(null));
+        assertEquals(1, mapper.toUseCaseResponseList(List.of(device)).size());
+    }
+}
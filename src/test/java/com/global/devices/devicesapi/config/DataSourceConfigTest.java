@@ -0,0 +1,42 @@
+package com.global.devices.devicesapi.config;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DataSourceConfigTest {
+
+    @Configuration
+    @EnableConfigurationProperties(DeviceJdbcProperties.class)
+    static class Infrastructure {
+    }
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(Infrastructure.class, DataSourceConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(DataSource.class, () -> mock(DataSource.class));
+
+    @Test
+    void dataSource_ShouldBeLimitedWhenEnabled() {
+        contextRunner.withPropertyValues("devices.jdbc.limit-concurrency=true", "devices.jdbc.max-concurrency=4")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class)).isInstanceOf(ConcurrencyLimitedDataSource.class);
+                    assertThat(context.getBean(MeterRegistry.class).find("devices.jdbc.permits.waiting").gauge()).isNotNull();
+                });
+    }
+
+    @Test
+    void dataSource_ShouldBeLeftAloneByDefault() {
+        contextRunner.run(context ->
+                assertThat(context.getBean(DataSource.class)).isNotInstanceOf(ConcurrencyLimitedDataSource.class));
+    }
+}
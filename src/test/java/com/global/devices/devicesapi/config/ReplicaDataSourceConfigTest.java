@@ -0,0 +1,97 @@
+package com.global.devices.devicesapi.config;
+
+import com.global.devices.devicesapi.adaptor.outadaptor.repository.ReplicaLagMonitor;
+import com.global.devices.devicesapi.application.datasource.ReadRouting;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two plain H2 databases stand in for primary and replica; H2 cannot report replay lag
+class ReplicaDataSourceConfigTest {
+
+    @Configuration
+    @EnableConfigurationProperties({DeviceReplicaProperties.class, DeviceJdbcProperties.class})
+    static class Infrastructure {
+    }
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(Infrastructure.class, ReplicaDataSourceConfig.class, DataSourceConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:replica-config-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "devices.replica.url=jdbc:h2:mem:replica-config-replica;DB_CLOSE_DELAY=-1",
+                    "devices.replica.username=sa",
+                    "devices.replica.hikari.maximum-pool-size=3");
+
+    @Test
+    void replica_ShouldNotBeWiredByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ReplicaLagMonitor.class);
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(HikariDataSource.class);
+        });
+    }
+
+    @Test
+    void replica_ShouldGetItsOwnReadOnlyPoolBehindRoutingDataSource() {
+        contextRunner.withPropertyValues("devices.replica.enabled=true").run(context -> {
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+            HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+            assertThat(replica.getPoolName()).isEqualTo("devices-replica");
+            assertThat(replica.isReadOnly()).isTrue();
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(context.getBean("primaryDataSource", HikariDataSource.class).getPoolName())
+                    .isEqualTo("devices-primary");
+        });
+    }
+
+    @Test
+    void scans_ShouldStayOnPrimaryWhileReplicaLagIsUnknown() {
+        contextRunner.withPropertyValues("devices.replica.enabled=true").run(context -> {
+            // Arrange
+            new JdbcTemplate(context.getBean("primaryDataSource", DataSource.class))
+                    .execute("CREATE TABLE IF NOT EXISTS node AS SELECT 'primary' AS name");
+            var jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+            // Act
+            String served;
+            try (var replica = ReadRouting.preferReplica()) {
+                served = jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+            }
+
+            // Assert
+            assertThat(served).isEqualTo("primary");
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(meterRegistry.get("devices.replica.reads").tag("target", "primary").counter().count()).isPositive();
+            assertThat(meterRegistry.get("devices.replica.reads").tag("target", "replica").counter().count()).isZero();
+        });
+    }
+
+    @Test
+    void pools_ShouldEachBeLimitedWhenConcurrencyLimitIsOn() {
+        contextRunner.withPropertyValues("devices.replica.enabled=true", "devices.jdbc.limit-concurrency=true")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+                    assertThat(context.getBean("replicaDataSource").getClass().getSimpleName())
+                            .isEqualTo("ConcurrencyLimitedDataSource");
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                    for (String pool : new String[]{"devices-primary", "devices-replica"}) {
+                        assertThat(meterRegistry.get("devices.jdbc.permits.waiting").tag("pool", pool).gauge()).isNotNull();
+                        assertThat(meterRegistry.get("devices.jdbc.permits.rejected").tag("pool", pool).counter()).isNotNull();
+                    }
+                });
+    }
+}
@@ -1,6 +1,9 @@
 package com.global.devices.devicesapi.domain.exception;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DeviceNotFoundExceptionTest {
@@ -36,4 +39,25 @@ class DeviceNotFoundExceptionTest {
         // Assert
         assertNull(exception.getMessage(), "The message should be null if null was provided.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void forId_ShouldBuildMessageFromDeviceId() {
+        // Arrange
+        UUID deviceId = UUID.randomUUID();
+
+        // Act
+        DeviceNotFoundException exception = DeviceNotFoundException.forId(deviceId);
+
+        // Assert
+        assertEquals("Device with id " + deviceId + " not found", exception.getMessage());
+    }
+
+    @Test
+    void constructor_ShouldNotCaptureStackTrace() {
+        // Act
+        DeviceNotFoundException exception = DeviceNotFoundException.forId(UUID.randomUUID());
+
+        // Assert: 404s are control flow, walking the stack would dominate their cost
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -1,6 +1,9 @@
 package com.global.devices.devicesapi.domain.exception;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class InvalidOperationExceptionTest {
@@ -36,4 +39,30 @@ class InvalidOperationExceptionTest {
         // Assert
         assertNull(exception.getMessage(), "The message should be null if null was provided.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void inUse_ShouldBuildMessageFromDeviceId() {
+        // Arrange
+        UUID deviceId = UUID.randomUUID();
+
+        // Act
+        InvalidOperationException exception = InvalidOperationException.inUse(deviceId);
+
+        // Assert
+        assertEquals("Device with id " + deviceId + " is currently in use and cannot be updated/deleted",
+                exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void creationTimeImmutable_ShouldBuildMessageFromDeviceId() {
+        // Arrange
+        UUID deviceId = UUID.randomUUID();
+
+        // Act
+        InvalidOperationException exception = InvalidOperationException.creationTimeImmutable(deviceId);
+
+        // Assert
+        assertEquals("Device with id " + deviceId + " creationTime can not be updated", exception.getMessage());
+    }
+}
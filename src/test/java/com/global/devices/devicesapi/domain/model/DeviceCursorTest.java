@@ -0,0 +1,30 @@
+package com.global.devices.devicesapi.domain.model;
+
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripWithNanosecondPrecision() {
+        // Arrange
+        DeviceCursor cursor = new DeviceCursor(Instant.parse("2025-12-08T01:03:36.626992123Z"), UUID.randomUUID());
+
+        // Act
+        DeviceCursor decoded = DeviceCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedTokens() {
+        assertThrows(InvalidOperationException.class, () -> DeviceCursor.decode("%%%"));
+        assertThrows(InvalidOperationException.class, () -> DeviceCursor.decode("YWJj"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.global.devices.devicesapi.domain.model;
+
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceSearchTest {
+
+    @Test
+    void constructor_ShouldDefaultToOldestFirst() {
+        // Act
+        DeviceSearch search = new DeviceSearch("Dell", null, null, null, null);
+
+        // Assert
+        assertEquals(DeviceSearch.Order.ASC, search.order());
+        assertFalse(search.descending());
+    }
+
+    @Test
+    void constructor_ShouldRejectEmptyOrInvertedRanges() {
+        Instant now = Instant.parse("2025-12-08T00:00:00Z");
+
+        assertThrows(InvalidOperationException.class, () -> new DeviceSearch(null, null, now, now, null));
+        assertThrows(InvalidOperationException.class,
+                () -> new DeviceSearch(null, null, now.plusSeconds(1), now, null));
+        assertDoesNotThrow(() -> new DeviceSearch(null, null, now, now.plusSeconds(1), DeviceSearch.Order.DESC));
+    }
+}
@@ -82,4 +82,15 @@ class DeviceTest {
         assertEquals(TEST_STATE, entity.getState());
         assertEquals(TEST_TIME, entity.getCreationTime());
     }
+
+    @Test
+    void version_ShouldBeCarriedToEntityAndResponse() {
+        // Arrange
+        Device device = new Device(TEST_ID, TEST_NAME, TEST_BRAND, TEST_STATE, TEST_TIME, 4L);
+
+        // Act & Assert
+        assertEquals(4L, device.toEntity().getVersion());
+        assertEquals(4L, device.toUseCaseResponse().getVersion());
+        assertNull(new Device(TEST_NAME, TEST_BRAND, TEST_STATE).getVersion(), "New devices have no version yet.");
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.global.devices.devicesapi.domain.validation;
 
+import com.global.devices.devicesapi.domain.exception.InvalidOperationException;
 import com.global.devices.devicesapi.domain.model.Device;
 import com.global.devices.devicesapi.domain.model.DeviceState;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +50,16 @@ class DeviceValidatorTest {
                 "Validation should pass for an INACTIVE device.");
     }
 
+    @Test
+    void validateStatus_ShouldThrowException_WhenDeviceIsInUse() {
+        // Arrange
+        Device inUseDevice = new Device(
+                TEST_ID, "Test", "Brand", DeviceState.IN_USE, TEST_TIME
+        );
 
-
-
-}
\ No newline at end of file
+        // Act & Assert
+        InvalidOperationException exception = assertThrows(InvalidOperationException.class,
+                () -> deviceValidator.validateStatus(inUseDevice));
+        assertEquals(deviceValidator.inUse(TEST_ID).getMessage(), exception.getMessage());
+    }
+}